@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j.benchmarks;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+
+/**
+ * Configures the log manager for the benchmarks.
+ */
+final class BenchmarkLogging {
+    /**
+     * The JVM arguments each benchmark fork requires.
+     */
+    static final String LOG_MANAGER = "-Djava.util.logging.manager=org.jboss.logmanager.LogManager";
+
+    private BenchmarkLogging() {
+    }
+
+    /**
+     * Replaces the handlers on the root logger with a {@link NullHandler} and sets the level of the root logger.
+     *
+     * @param level the level for the root logger
+     *
+     * @return the handler
+     */
+    static NullHandler configure(final Level level) {
+        return configure(level, new NullHandler());
+    }
+
+    /**
+     * Replaces the handlers on the root logger with the handler and sets the level of the root logger.
+     *
+     * @param level   the level for the root logger
+     * @param handler the handler
+     *
+     * @return the handler
+     */
+    static <H extends Handler> H configure(final Level level, final H handler) {
+        final Logger root = LogContext.getLogContext().getLogger("");
+        for (Handler previous : root.getHandlers()) {
+            root.removeHandler(previous);
+        }
+        root.addHandler(handler);
+        root.setLevel(level);
+        return handler;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.slf4j.ContextPropagation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+
+/**
+ * The overhead of propagating the MDC to a task. The tasks run on the calling thread, so only the cost of capturing,
+ * installing and restoring the context is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkLogging.LOG_MANAGER)
+public class ContextPropagationBenchmark {
+    private static final Executor DIRECT = Runnable::run;
+
+    @Param({ "0", "5", "20" })
+    public int entries;
+
+    private Executor executor;
+    private Runnable task;
+
+    @Setup(Level.Iteration)
+    public void setup(final Blackhole blackhole) {
+        MDC.clear();
+        for (int i = 0; i < entries; i++) {
+            MDC.put("key" + i, "value" + i);
+        }
+        executor = ContextPropagation.wrap(DIRECT);
+        task = () -> blackhole.consume(MDC.get("key0"));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public void propagated() {
+        executor.execute(task);
+    }
+
+    @Benchmark
+    public void copyContextMap() {
+        // The hand-written propagation this replaces
+        final Map<String, String> context = MDC.getCopyOfContextMap();
+        final Runnable task = this.task;
+        DIRECT.execute(() -> {
+            final Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(context);
+            try {
+                task.run();
+            } finally {
+                MDC.setContextMap(previous);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Calls for a level which is not enabled, which should not allocate or format anything.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkLogging.LOG_MANAGER)
+public class DisabledLevelBenchmark {
+    private Logger logger;
+    private Object arg1;
+    private Object arg2;
+    private Object[] args;
+
+    @Setup
+    public void setup() {
+        BenchmarkLogging.configure(Level.INFO);
+        logger = LoggerFactory.getLogger(DisabledLevelBenchmark.class);
+        arg1 = "value";
+        arg2 = 42;
+        args = new Object[] { "one", 2, 3.0D, "four" };
+    }
+
+    @Benchmark
+    public void noArguments() {
+        logger.debug("Disabled message");
+    }
+
+    @Benchmark
+    public void oneArgument() {
+        logger.debug("Disabled message {}", arg1);
+    }
+
+    @Benchmark
+    public void twoArguments() {
+        logger.debug("Disabled message {} {}", arg1, arg2);
+    }
+
+    @Benchmark
+    public void varArguments() {
+        logger.debug("Disabled message {} {} {} {}", args);
+    }
+
+    @Benchmark
+    public void isEnabled() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Disabled message {}", arg1);
+        }
+    }
+
+    @Benchmark
+    public void fluent() {
+        logger.atDebug().addArgument(arg1).log("Disabled message {}");
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * Calls for an enabled level, published to a {@link NullHandler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkLogging.LOG_MANAGER)
+public class EnabledLevelBenchmark {
+    private static final String FQCN = EnabledLevelBenchmark.class.getName();
+
+    private Logger logger;
+    private Marker marker;
+    private Object arg1;
+    private Object arg2;
+    private Object[] args;
+
+    @Setup
+    public void setup() {
+        BenchmarkLogging.configure(Level.INFO);
+        logger = LoggerFactory.getLogger(EnabledLevelBenchmark.class);
+        marker = MarkerFactory.getMarker("BENCHMARK");
+        marker.add(MarkerFactory.getMarker("CHILD"));
+        arg1 = "value";
+        arg2 = 42;
+        args = new Object[] { "one", 2, 3.0D, "four" };
+    }
+
+    @Benchmark
+    public void noArguments() {
+        logger.info("Enabled message");
+    }
+
+    @Benchmark
+    public void oneArgument() {
+        logger.info("Enabled message {}", arg1);
+    }
+
+    @Benchmark
+    public void twoArguments() {
+        logger.info("Enabled message {} {}", arg1, arg2);
+    }
+
+    @Benchmark
+    public void varArguments() {
+        logger.info("Enabled message {} {} {} {}", args);
+    }
+
+    @Benchmark
+    public void marker() {
+        logger.info(marker, "Enabled message {}", arg1);
+    }
+
+    @Benchmark
+    public void locationAware() {
+        ((LocationAwareLogger) logger).log(marker, FQCN, LocationAwareLogger.INFO_INT, "Enabled message {}",
+                new Object[] { arg1 }, null);
+    }
+
+    @Benchmark
+    public void fluent() {
+        logger.atInfo().addArgument(arg1).log("Enabled message {}");
+    }
+
+    @Benchmark
+    public void fluentKeyValue() {
+        logger.atInfo().addKeyValue("key", arg1).addKeyValue("count", arg2).log("Enabled message");
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jboss.logmanager.slf4j.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.FileHandler;
+import org.jboss.logmanager.slf4j.LogBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logging a number of events one at a time compared to adding them to a {@link LogBatch}, published to a
+ * {@link FileHandler}. Each operation logs {@link #events} events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkLogging.LOG_MANAGER)
+public class LogBatchBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int events;
+
+    @Param({ "true", "false" })
+    public boolean autoFlush;
+
+    private Path file;
+    private FileHandler handler;
+    private Logger logger;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("log-batch-benchmark", ".log");
+        handler = new FileHandler(file.toFile(), false);
+        handler.setAutoFlush(autoFlush);
+        handler.setFormatter(new PatternFormatter("%d{HH:mm:ss,SSS} %-5p [%c] %s%e%n"));
+        BenchmarkLogging.configure(Level.INFO, handler);
+        logger = LoggerFactory.getLogger(LogBatchBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        handler.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void perEvent() {
+        final Logger logger = this.logger;
+        for (int i = 0; i < events; i++) {
+            logger.info("Processed item {}", i);
+        }
+    }
+
+    @Benchmark
+    public void batched() {
+        try (LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.INFO)) {
+            for (int i = 0; i < events; i++) {
+                batch.add("Processed item {}", i);
+            }
+        }
+    }
+}
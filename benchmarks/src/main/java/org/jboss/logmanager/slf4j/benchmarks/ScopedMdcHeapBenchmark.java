@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.logmanager.slf4j.ScopedMDC;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+/**
+ * The heap retained by parked virtual threads which all see the same MDC value. The {@code bytesPerThread} counter is
+ * the heap used while the threads are parked, less the heap used before they were started. {@code none} measures the
+ * threads without an MDC, {@code perThread} puts the value in the MDC of each thread and {@code scoped} adds it with
+ * {@link ScopedMDC}, which binds it to a scoped value on Java 25 and later. Requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { BenchmarkLogging.LOG_MANAGER, "-Dorg.jboss.logmanager.slf4j.mdcProvider=true" })
+public class ScopedMdcHeapBenchmark {
+    private static final int THREADS = 100_000;
+    private static final Consumer<Runnable> NONE = Runnable::run;
+
+    /**
+     * The heap retained for each thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long bytesPerThread;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerThread = 0L;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Initializes SLF4J before the threads are started, otherwise they may get the temporary MDC adapter SLF4J uses
+        // while it is initialized
+        MDC.clear();
+    }
+
+    @Benchmark
+    public void none(final Heap heap) throws Exception {
+        heap.bytesPerThread = measure(NONE);
+    }
+
+    @Benchmark
+    public void perThread(final Heap heap) throws Exception {
+        heap.bytesPerThread = measure(task -> {
+            MDC.put("request", "1");
+            try {
+                task.run();
+            } finally {
+                MDC.remove("request");
+            }
+        });
+    }
+
+    @Benchmark
+    public void scoped(final Heap heap) throws Exception {
+        final ScopedMDC scopedMdc = ScopedMDC.with("request", "1");
+        heap.bytesPerThread = measure(scopedMdc::run);
+    }
+
+    /**
+     * Parks the virtual threads once the MDC is bound and returns the heap used for each thread while they are all
+     * parked.
+     */
+    private static long measure(final Consumer<Runnable> binder) throws Exception {
+        final CountDownLatch ready = new CountDownLatch(THREADS);
+        final CountDownLatch release = new CountDownLatch(1);
+        final long before = usedHeap();
+        final long used;
+        final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                executor.execute(() -> binder.accept(() -> {
+                    if (MDC.get("request") == null && binder != NONE) {
+                        throw new IllegalStateException("The MDC value is not visible");
+                    }
+                    ready.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            if (!ready.await(2L, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("The virtual threads did not start");
+            }
+            used = usedHeap();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        if (!executor.awaitTermination(2L, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("The virtual threads did not complete");
+        }
+        return (used - before) / THREADS;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        // Invoked reflectively as the benchmarks are compiled for Java 17
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
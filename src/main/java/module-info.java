@@ -1,8 +1,12 @@
 module org.jboss.logmanager.slf4j {
+    requires static java.management;
+    requires static jdk.jfr;
     requires org.jboss.logmanager;
     requires org.slf4j;
 
+    exports org.jboss.logmanager.slf4j;
     exports org.slf4j.impl to org.slf4j;
 
+    provides org.jboss.logmanager.MDCProvider with org.slf4j.impl.Slf4jMDCProvider;
     provides org.slf4j.spi.SLF4JServiceProvider with org.slf4j.impl.JBossSlf4jServiceProvider;
 }
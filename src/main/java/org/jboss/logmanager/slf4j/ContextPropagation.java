@@ -0,0 +1,382 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.jboss.logmanager.NDC;
+
+/**
+ * Propagates the MDC and NDC of the submitting thread to the thread which runs a task.
+ * <p>
+ * The context is captured when a task is wrapped and installed on the running thread for the duration of the task. The
+ * previous context of the running thread is restored afterwards. With the MDC provider of this binding capturing and
+ * installing the MDC does not copy it, see {@link MDCSnapshot}.
+ * </p>
+ *
+ * <pre>{@code
+ * final ExecutorService executor = ContextPropagation.wrap(Executors.newVirtualThreadPerTaskExecutor());
+ * CompletableFuture.supplyAsync(this::load, executor)
+ *         .thenApplyAsync(this::transform, executor);
+ * }</pre>
+ */
+public final class ContextPropagation {
+    private static final String[] NO_NDC = new String[0];
+
+    private ContextPropagation() {
+    }
+
+    /**
+     * Wraps the task so it runs with the context of the current thread.
+     *
+     * @param task the task to wrap
+     *
+     * @return the wrapped task
+     */
+    public static Runnable wrap(final Runnable task) {
+        return new ContextRunnable(Context.capture(), task);
+    }
+
+    /**
+     * Wraps the task so it runs with the context of the current thread.
+     *
+     * @param task the task to wrap
+     * @param <V>  the result type
+     *
+     * @return the wrapped task
+     */
+    public static <V> Callable<V> wrap(final Callable<V> task) {
+        final Context context = Context.capture();
+        return () -> {
+            final Context previous = context.install();
+            try {
+                return task.call();
+            } finally {
+                previous.install();
+            }
+        };
+    }
+
+    /**
+     * Wraps the supplier so it runs with the context of the current thread. This is intended for
+     * {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier)}.
+     *
+     * @param supplier the supplier to wrap
+     * @param <T>      the result type
+     *
+     * @return the wrapped supplier
+     */
+    public static <T> Supplier<T> wrapSupplier(final Supplier<T> supplier) {
+        final Context context = Context.capture();
+        return () -> {
+            final Context previous = context.install();
+            try {
+                return supplier.get();
+            } finally {
+                previous.install();
+            }
+        };
+    }
+
+    /**
+     * Wraps the executor so each task runs with the context of the thread which submitted it. This can be passed to the
+     * asynchronous methods of {@link java.util.concurrent.CompletableFuture}.
+     *
+     * @param executor the executor to wrap
+     *
+     * @return the wrapped executor
+     */
+    public static Executor wrap(final Executor executor) {
+        if (executor instanceof ScheduledExecutorService) {
+            return wrap((ScheduledExecutorService) executor);
+        }
+        if (executor instanceof ExecutorService) {
+            return wrap((ExecutorService) executor);
+        }
+        if (executor instanceof ContextExecutor) {
+            return executor;
+        }
+        return new ContextExecutor(executor);
+    }
+
+    /**
+     * Wraps the executor service so each task runs with the context of the thread which submitted it.
+     * <p>
+     * {@link ExecutorService#shutdownNow()} returns a task passed to {@link ExecutorService#execute(Runnable)} rather
+     * than its wrapper. A task the executor service holds as a {@link Future}, such as a task passed to one of the
+     * {@code submit} methods, is returned as that {@link Future}, as it would be without the wrapper.
+     * </p>
+     *
+     * @param executor the executor service to wrap
+     *
+     * @return the wrapped executor service
+     */
+    public static ExecutorService wrap(final ExecutorService executor) {
+        if (executor instanceof ScheduledExecutorService) {
+            return wrap((ScheduledExecutorService) executor);
+        }
+        if (executor instanceof ContextExecutorService) {
+            return executor;
+        }
+        return new ContextExecutorService(executor);
+    }
+
+    /**
+     * Wraps the scheduled executor service so each task runs with the context of the thread which scheduled it. A
+     * periodic task runs with the same context each time.
+     *
+     * @param executor the scheduled executor service to wrap
+     *
+     * @return the wrapped scheduled executor service
+     * @see #wrap(ExecutorService)
+     */
+    public static ScheduledExecutorService wrap(final ScheduledExecutorService executor) {
+        if (executor instanceof ContextScheduledExecutorService) {
+            return executor;
+        }
+        return new ContextScheduledExecutorService(executor);
+    }
+
+    private static <T> List<Callable<T>> wrapAll(final Collection<? extends Callable<T>> tasks) {
+        final List<Callable<T>> result = new ArrayList<>(tasks.size());
+        // Capture once for all the tasks
+        final Context context = Context.capture();
+        for (Callable<T> task : tasks) {
+            result.add(() -> {
+                final Context previous = context.install();
+                try {
+                    return task.call();
+                } finally {
+                    previous.install();
+                }
+            });
+        }
+        return result;
+    }
+
+    private static final class Context {
+        private static final Context EMPTY = new Context(MDCSnapshot.of(Map.of()), NO_NDC);
+
+        private final MDCSnapshot mdc;
+        private final String[] ndc;
+
+        private Context(final MDCSnapshot mdc, final String[] ndc) {
+            this.mdc = mdc;
+            this.ndc = ndc;
+        }
+
+        static Context capture() {
+            final MDCSnapshot mdc = MDCSnapshot.capture();
+            final String[] ndc = captureNdc();
+            return of(mdc, ndc);
+        }
+
+        Context install() {
+            final MDCSnapshot previousMdc = mdc.restore();
+            final String[] previousNdc = captureNdc();
+            if (previousNdc.length != 0 || ndc.length != 0) {
+                NDC.clear();
+                for (String value : ndc) {
+                    NDC.push(value);
+                }
+            }
+            return of(previousMdc, previousNdc);
+        }
+
+        private static Context of(final MDCSnapshot mdc, final String[] ndc) {
+            if (ndc.length == 0 && mdc.asMap().isEmpty()) {
+                return EMPTY;
+            }
+            return new Context(mdc, ndc);
+        }
+
+        private static String[] captureNdc() {
+            final int depth = NDC.getDepth();
+            if (depth == 0) {
+                return NO_NDC;
+            }
+            final String[] result = new String[depth];
+            for (int i = 0; i < depth; i++) {
+                result[i] = NDC.get(i);
+            }
+            return result;
+        }
+    }
+
+    private static final class ContextRunnable implements Runnable {
+        private final Context context;
+        private final Runnable task;
+
+        ContextRunnable(final Context context, final Runnable task) {
+            this.context = context;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            final Context previous = context.install();
+            try {
+                task.run();
+            } finally {
+                previous.install();
+            }
+        }
+    }
+
+    private static final class ContextExecutor implements Executor {
+        private final Executor delegate;
+
+        ContextExecutor(final Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(wrap(command));
+        }
+    }
+
+    private static class ContextExecutorService implements ExecutorService {
+        private final ExecutorService delegate;
+
+        ContextExecutorService(final ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(wrap(command));
+        }
+
+        @Override
+        public <T> Future<T> submit(final Callable<T> task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(final Runnable task, final T result) {
+            return delegate.submit(wrap(task), result);
+        }
+
+        @Override
+        public Future<?> submit(final Runnable task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout,
+                final TimeUnit unit) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks)
+                throws InterruptedException, ExecutionException {
+            return delegate.invokeAny(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            final List<Runnable> tasks = delegate.shutdownNow();
+            final List<Runnable> result = new ArrayList<>(tasks.size());
+            for (Runnable task : tasks) {
+                // Return the task which was passed to execute() rather than the wrapper
+                result.add(task instanceof ContextRunnable ? ((ContextRunnable) task).task : task);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    private static final class ContextScheduledExecutorService extends ContextExecutorService
+            implements ScheduledExecutorService {
+        private final ScheduledExecutorService delegate;
+
+        ContextScheduledExecutorService(final ScheduledExecutorService delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+            return delegate.schedule(wrap(command), delay, unit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+            return delegate.schedule(wrap(callable), delay, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period,
+                final TimeUnit unit) {
+            return delegate.scheduleAtFixedRate(wrap(command), initialDelay, period, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+                final long delay, final TimeUnit unit) {
+            return delegate.scheduleWithFixedDelay(wrap(command), initialDelay, delay, unit);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+/**
+ * A log record which can append its formatted message to a buffer without creating a string. Records created by this
+ * binding implement this type, so a formatter can write the message directly to its own buffer.
+ * <p>
+ * In the garbage-free mode the records are reused by the logging thread once the handlers return. A handler must not
+ * retain such a record, it must copy the record, e.g. with
+ * {@link org.jboss.logmanager.ExtLogRecord#ExtLogRecord(org.jboss.logmanager.ExtLogRecord)}, before returning.
+ * </p>
+ */
+public interface FormattableRecord {
+
+    /**
+     * Appends the formatted message of this record to the target.
+     *
+     * @param target the buffer to append the message to
+     */
+    void formatMessageTo(StringBuilder target);
+}
@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.JsonFormatter;
+import org.slf4j.event.KeyValuePair;
+
+/**
+ * A {@link JsonFormatter} which writes the key/value pairs of a {@link KeyValueRecord} as a JSON object. Integral
+ * values are written as JSON numbers, all other values are written as strings.
+ */
+public class KeyValueJsonFormatter extends JsonFormatter {
+
+    private volatile String keyValuesKey = "keyValues";
+
+    /**
+     * Creates a new JSON formatter.
+     */
+    public KeyValueJsonFormatter() {
+    }
+
+    /**
+     * Creates a new JSON formatter.
+     *
+     * @param keyOverrides a string representation of a map to override keys
+     *
+     * @see JsonFormatter#JsonFormatter(String)
+     */
+    public KeyValueJsonFormatter(final String keyOverrides) {
+        super(keyOverrides);
+    }
+
+    /**
+     * Creates a new JSON formatter.
+     *
+     * @param keyOverrides a map of overrides for the default keys
+     */
+    public KeyValueJsonFormatter(final Map<Key, String> keyOverrides) {
+        super(keyOverrides);
+    }
+
+    /**
+     * Returns the key used for the object containing the key/value pairs.
+     *
+     * @return the key
+     */
+    public String getKeyValuesKey() {
+        return keyValuesKey;
+    }
+
+    /**
+     * Sets the key used for the object containing the key/value pairs. The default is {@code keyValues}.
+     *
+     * @param keyValuesKey the key to use
+     */
+    public void setKeyValuesKey(final String keyValuesKey) {
+        this.keyValuesKey = keyValuesKey;
+    }
+
+    @Override
+    protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
+        if (record instanceof KeyValueRecord) {
+            final List<KeyValuePair> keyValuePairs = ((KeyValueRecord) record).getKeyValuePairs();
+            if (!keyValuePairs.isEmpty()) {
+                generator.startObject(keyValuesKey);
+                for (KeyValuePair pair : keyValuePairs) {
+                    final Object value = pair.value;
+                    if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                        generator.add(pair.key, ((Number) value).intValue());
+                    } else if (value instanceof Long) {
+                        generator.add(pair.key, ((Long) value).longValue());
+                    } else {
+                        generator.add(pair.key, value == null ? null : String.valueOf(value));
+                    }
+                }
+                generator.endObject();
+            }
+        }
+    }
+}
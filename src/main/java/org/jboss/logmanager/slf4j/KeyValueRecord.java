@@ -0,0 +1,39 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.List;
+
+import org.slf4j.event.KeyValuePair;
+
+/**
+ * A log record which carries the key/value pairs added to an event with the SLF4J fluent API. The values are the
+ * objects passed to {@link org.slf4j.spi.LoggingEventBuilder#addKeyValue(String, Object)} and are not converted to
+ * strings. Formatters can check if a record is an instance of this type to write the values as structured data.
+ */
+public interface KeyValueRecord {
+
+    /**
+     * Returns the key/value pairs, in the order they were added, for this record.
+     *
+     * @return an unmodifiable list of the key/value pairs, never {@code null}
+     */
+    List<KeyValuePair> getKeyValuePairs();
+}
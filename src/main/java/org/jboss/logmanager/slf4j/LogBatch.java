@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.impl.Slf4jLoggerFactory;
+
+/**
+ * A batch of events logged at one level, which are published to the handlers together when the batch is flushed. The
+ * level is checked once, when the batch is created, and nothing is formatted if it is disabled.
+ * <p>
+ * The message is formatted and the caller resolved, if {@code org.jboss.logmanager.slf4j.resolveCaller} is enabled,
+ * when an event is added. Otherwise the caller is the code which flushed the batch. Events handed off to the
+ * asynchronous dispatcher are not held by the batch.
+ * </p>
+ * <p>
+ * A batch is not thread-safe and is meant to be used by a single thread, e.g.
+ * </p>
+ *
+ * <pre>
+ * try (LogBatch batch = LogBatch.of(logger, Level.INFO)) {
+ *     for (Item item : items) {
+ *         batch.add("Processed {}", item);
+ *     }
+ * }
+ * </pre>
+ */
+public interface LogBatch extends AutoCloseable {
+
+    /**
+     * Creates a batch for the logger.
+     *
+     * @param logger the logger, which must have been obtained from this binding
+     * @param level  the level of the events
+     *
+     * @return the batch
+     *
+     * @throws IllegalArgumentException if the logger was not obtained from this binding
+     */
+    static LogBatch of(final Logger logger, final Level level) {
+        final LogBatch batch = Slf4jLoggerFactory.batch(logger, level);
+        if (batch != null) {
+            return batch;
+        }
+        throw new IllegalArgumentException("The logger " + logger + " was not obtained from the JBoss Log Manager binding");
+    }
+
+    /**
+     * Indicates whether the level of the batch is enabled for the logger. If {@code false} events added to the batch
+     * are discarded.
+     *
+     * @return {@code true} if events added to the batch are logged
+     */
+    boolean isEnabled();
+
+    /**
+     * Adds a message.
+     *
+     * @param msg the message
+     *
+     * @return this batch
+     */
+    LogBatch add(String msg);
+
+    /**
+     * Adds a message with a throwable.
+     *
+     * @param msg the message
+     * @param t   the throwable
+     *
+     * @return this batch
+     */
+    LogBatch add(String msg, Throwable t);
+
+    /**
+     * Adds a message with an argument.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     *
+     * @return this batch
+     */
+    LogBatch add(String format, Object arg);
+
+    /**
+     * Adds a message with two arguments.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     *
+     * @return this batch
+     */
+    LogBatch add(String format, Object arg1, Object arg2);
+
+    /**
+     * Adds a message with arguments. A trailing throwable is logged as the cause, as with the logger.
+     *
+     * @param format    the message template
+     * @param arguments the arguments
+     *
+     * @return this batch
+     */
+    LogBatch add(String format, Object... arguments);
+
+    /**
+     * Returns the number of records waiting to be published.
+     *
+     * @return the number of records
+     */
+    int size();
+
+    /**
+     * Publishes the records added since the batch was created or last flushed. The batch can be reused afterwards.
+     */
+    void flush();
+
+    /**
+     * Flushes the batch.
+     */
+    @Override
+    void close();
+}
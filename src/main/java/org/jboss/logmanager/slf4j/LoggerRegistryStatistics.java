@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+/**
+ * A snapshot of the loggers created for a log context. See {@link LoggingMetricsMXBean}.
+ */
+public final class LoggerRegistryStatistics {
+    private final String logContext;
+    private final int loggers;
+    private final boolean weak;
+    private final long estimatedHeapBytes;
+
+    /**
+     * Creates the snapshot.
+     *
+     * @param logContext         the name which identifies the log context
+     * @param loggers            the number of loggers
+     * @param weak               {@code true} if the loggers are weakly referenced
+     * @param estimatedHeapBytes the estimated heap retained by the loggers
+     */
+    public LoggerRegistryStatistics(final String logContext, final int loggers, final boolean weak,
+            final long estimatedHeapBytes) {
+        this.logContext = logContext;
+        this.loggers = loggers;
+        this.weak = weak;
+        this.estimatedHeapBytes = estimatedHeapBytes;
+    }
+
+    /**
+     * Returns the name which identifies the log context.
+     *
+     * @return the name of the log context
+     */
+    public String getLogContext() {
+        return logContext;
+    }
+
+    /**
+     * Returns the number of loggers created for the log context. With weak loggers this may include loggers which
+     * have been reclaimed but not yet removed.
+     *
+     * @return the number of loggers
+     */
+    public int getLoggers() {
+        return loggers;
+    }
+
+    /**
+     * Indicates whether the loggers are weakly referenced.
+     *
+     * @return {@code true} if loggers which are no longer referenced can be reclaimed
+     */
+    public boolean isWeak() {
+        return weak;
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the loggers of the log context. The nodes of the log manager logger
+     * tree are not included.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedHeapBytes() {
+        return estimatedHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return logContext + "[loggers=" + loggers + ", weak=" + weak + ", estimatedHeapBytes=" + estimatedHeapBytes
+                + ']';
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.Map;
+
+/**
+ * A snapshot of the metrics of a logger. See {@link LoggingMetricsMXBean}.
+ */
+public final class LoggerStatistics {
+    private final String name;
+    private final Map<String, Long> rejected;
+    private final Map<String, Long> enabled;
+    private final Map<String, Long> emitted;
+    private final long timedCalls;
+    private final long createNanos;
+    private final long dispatchNanos;
+
+    /**
+     * Creates the snapshot.
+     *
+     * @param name          the logger name
+     * @param rejected      the number of rejected calls, keyed by level name
+     * @param enabled       the number of enabled calls, keyed by level name
+     * @param emitted       the number of emitted records, keyed by level name
+     * @param timedCalls    the number of timed calls
+     * @param createNanos   the time spent creating records in the timed calls
+     * @param dispatchNanos the time spent dispatching records to the handlers in the timed calls
+     */
+    public LoggerStatistics(final String name, final Map<String, Long> rejected, final Map<String, Long> enabled,
+            final Map<String, Long> emitted, final long timedCalls, final long createNanos, final long dispatchNanos) {
+        this.name = name;
+        this.rejected = Map.copyOf(rejected);
+        this.enabled = Map.copyOf(enabled);
+        this.emitted = Map.copyOf(emitted);
+        this.timedCalls = timedCalls;
+        this.createNanos = createNanos;
+        this.dispatchNanos = dispatchNanos;
+    }
+
+    /**
+     * Returns the logger name.
+     *
+     * @return the logger name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of calls.
+     *
+     * @return the number of calls
+     */
+    public long getCalls() {
+        return getRejected() + getEnabled();
+    }
+
+    /**
+     * Returns the number of calls rejected by the level check.
+     *
+     * @return the number of rejected calls
+     */
+    public long getRejected() {
+        return sum(rejected);
+    }
+
+    /**
+     * Returns the number of calls which passed the level check.
+     *
+     * @return the number of enabled calls
+     */
+    public long getEnabled() {
+        return sum(enabled);
+    }
+
+    /**
+     * Returns the number of records passed to the handlers.
+     *
+     * @return the number of emitted records
+     */
+    public long getEmitted() {
+        return sum(emitted);
+    }
+
+    /**
+     * Returns the number of calls rejected by the level check, keyed by level name.
+     *
+     * @return the number of rejected calls per level
+     */
+    public Map<String, Long> getRejectedByLevel() {
+        return rejected;
+    }
+
+    /**
+     * Returns the number of calls which passed the level check, keyed by level name.
+     *
+     * @return the number of enabled calls per level
+     */
+    public Map<String, Long> getEnabledByLevel() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of records passed to the handlers, keyed by level name.
+     *
+     * @return the number of emitted records per level
+     */
+    public Map<String, Long> getEmittedByLevel() {
+        return emitted;
+    }
+
+    /**
+     * Returns the number of calls which were timed.
+     *
+     * @return the number of timed calls
+     */
+    public long getTimedCalls() {
+        return timedCalls;
+    }
+
+    /**
+     * Returns the time spent creating records, including formatting the message unless formatting is deferred, in the
+     * timed calls.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getCreateNanos() {
+        return createNanos;
+    }
+
+    /**
+     * Returns the time spent dispatching records to the handlers in the timed calls.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getDispatchNanos() {
+        return dispatchNanos;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[calls=" + getCalls() + ", rejected=" + getRejected() + ", emitted=" + getEmitted() + ']';
+    }
+
+    private static long sum(final Map<String, Long> values) {
+        long result = 0L;
+        for (Long value : values.values()) {
+            result += value;
+        }
+        return result;
+    }
+}
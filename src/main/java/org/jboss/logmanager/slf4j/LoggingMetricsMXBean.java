@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+/**
+ * The metrics of the SLF4J loggers, registered as {@value #OBJECT_NAME} when the
+ * {@code org.jboss.logmanager.slf4j.metrics} system property is {@code true}.
+ * <p>
+ * A call is either rejected, because the level is not enabled, or enabled. An enabled call is emitted unless it was
+ * suppressed by sampling or dropped by the asynchronous dispatcher.
+ * </p>
+ */
+public interface LoggingMetricsMXBean {
+
+    /**
+     * The object name the MXBean is registered with.
+     */
+    String OBJECT_NAME = "org.jboss.logmanager.slf4j:type=LoggingMetrics";
+
+    /**
+     * Returns the number of calls to the loggers.
+     *
+     * @return the number of calls
+     */
+    long getCalls();
+
+    /**
+     * Returns the number of calls rejected by the level check.
+     *
+     * @return the number of rejected calls
+     */
+    long getRejected();
+
+    /**
+     * Returns the number of records passed to the handlers.
+     *
+     * @return the number of emitted records
+     */
+    long getEmitted();
+
+    /**
+     * Returns the number of events dropped by the asynchronous dispatcher because the ring buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    long getAsyncDropped();
+
+    /**
+     * Returns the names of the loggers with metrics.
+     *
+     * @return the logger names
+     */
+    String[] getLoggerNames();
+
+    /**
+     * Returns the metrics of a logger.
+     *
+     * @param name the logger name
+     *
+     * @return the metrics or {@code null} if there are no metrics for the logger
+     */
+    LoggerStatistics getLoggerStatistics(String name);
+
+    /**
+     * Returns the loggers which made the most calls.
+     *
+     * @param count the maximum number of loggers to return
+     *
+     * @return the loggers in descending order of calls
+     */
+    LoggerStatistics[] topLoggersByCalls(int count);
+
+    /**
+     * Returns the loggers which emitted the most records.
+     *
+     * @param count the maximum number of loggers to return
+     *
+     * @return the loggers in descending order of emitted records
+     */
+    LoggerStatistics[] topLoggersByEmitted(int count);
+
+    /**
+     * Returns the loggers which spent the most time in the timed calls.
+     *
+     * @param count the maximum number of loggers to return
+     *
+     * @return the loggers in descending order of the time spent
+     */
+    LoggerStatistics[] topLoggersByTime(int count);
+
+    /**
+     * Returns the number of loggers created for each log context and the estimated heap they retain.
+     *
+     * @return the statistics of each log context which has loggers
+     */
+    LoggerRegistryStatistics[] getLoggerRegistries();
+
+    /**
+     * Resets the metrics of all the loggers.
+     */
+    void reset();
+}
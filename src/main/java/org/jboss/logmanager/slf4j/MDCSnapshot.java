@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.Map;
+
+import org.slf4j.impl.Slf4jMDCProvider;
+
+/**
+ * An immutable snapshot of the MDC of a thread.
+ * <p>
+ * When the log manager uses the MDC provider of this binding, capturing a snapshot only reads a reference and restoring
+ * one is a single write. The snapshot shares its storage with the context it was captured from. With another MDC
+ * provider the entries are copied.
+ * </p>
+ *
+ * <pre>{@code
+ * final MDCSnapshot snapshot = MDCSnapshot.capture();
+ * executor.execute(() -> {
+ *     final MDCSnapshot previous = snapshot.restore();
+ *     try {
+ *         task.run();
+ *     } finally {
+ *         previous.restore();
+ *     }
+ * });
+ * }</pre>
+ */
+public final class MDCSnapshot {
+    private final Map<String, Object> context;
+
+    private MDCSnapshot(final Map<String, Object> context) {
+        this.context = context;
+    }
+
+    /**
+     * Captures the MDC of the current thread.
+     *
+     * @return the snapshot
+     */
+    public static MDCSnapshot capture() {
+        return new MDCSnapshot(Slf4jMDCProvider.capture());
+    }
+
+    /**
+     * Creates a snapshot with the entries of the map. Entries with a {@code null} key or value are ignored.
+     *
+     * @param context the entries of the snapshot
+     *
+     * @return the snapshot
+     */
+    public static MDCSnapshot of(final Map<String, ?> context) {
+        return new MDCSnapshot(Slf4jMDCProvider.snapshotOf(context));
+    }
+
+    /**
+     * Replaces the MDC of the current thread with this snapshot.
+     *
+     * @return a snapshot of the replaced MDC
+     */
+    public MDCSnapshot restore() {
+        return new MDCSnapshot(Slf4jMDCProvider.restore(context));
+    }
+
+    /**
+     * Returns the entries of this snapshot.
+     *
+     * @return an unmodifiable map of the entries
+     */
+    public Map<String, Object> asMap() {
+        return context;
+    }
+
+    @Override
+    public String toString() {
+        return context.toString();
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import org.slf4j.Logger;
+import org.slf4j.impl.Slf4jLoggerFactory;
+
+/**
+ * A logger with overloads for {@code int}, {@code long}, {@code double} and {@code boolean} arguments. The level is
+ * checked before anything else and the arguments are formatted without being boxed. The message is identical to the
+ * message formatted from the boxed values.
+ * <p>
+ * The usual rules of overload resolution apply. A {@code char}, {@code float} or mixed integer and floating point
+ * argument is widened to an overload of another type, e.g. a {@code char} is logged as its code point, so such values
+ * should be passed as objects. Mixing a primitive and a boxed argument in the same call is ambiguous for the compiler.
+ * </p>
+ * <p>
+ * The loggers returned by the {@link Slf4jLoggerFactory} implement this interface.
+ * </p>
+ */
+public interface PrimitiveLogger extends Logger {
+
+    /**
+     * Returns the logger with the name.
+     *
+     * @param name the name of the logger
+     *
+     * @return the logger
+     */
+    static PrimitiveLogger getLogger(final String name) {
+        return new Slf4jLoggerFactory().getLogger(name);
+    }
+
+    /**
+     * Returns the logger for the class.
+     *
+     * @param clazz the class to get the logger for
+     *
+     * @return the logger
+     */
+    static PrimitiveLogger getLogger(final Class<?> clazz) {
+        return new Slf4jLoggerFactory().getLogger(clazz);
+    }
+
+    /**
+     * Logs a message with a {@code int} argument at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void trace(String format, int arg);
+
+    /**
+     * Logs a message with a {@code long} argument at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void trace(String format, long arg);
+
+    /**
+     * Logs a message with a {@code double} argument at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void trace(String format, double arg);
+
+    /**
+     * Logs a message with a {@code boolean} argument at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void trace(String format, boolean arg);
+
+    /**
+     * Logs a message with two {@code int} arguments at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message with two {@code long} arguments at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message with two {@code double} arguments at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message with two {@code boolean} arguments at the TRACE level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message with a {@code int} argument at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void debug(String format, int arg);
+
+    /**
+     * Logs a message with a {@code long} argument at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void debug(String format, long arg);
+
+    /**
+     * Logs a message with a {@code double} argument at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void debug(String format, double arg);
+
+    /**
+     * Logs a message with a {@code boolean} argument at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void debug(String format, boolean arg);
+
+    /**
+     * Logs a message with two {@code int} arguments at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message with two {@code long} arguments at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message with two {@code double} arguments at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message with two {@code boolean} arguments at the DEBUG level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message with a {@code int} argument at the INFO level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void info(String format, int arg);
+
+    /**
+     * Logs a message with a {@code long} argument at the INFO level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void info(String format, long arg);
+
+    /**
+     * Logs a message with a {@code double} argument at the INFO level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void info(String format, double arg);
+
+    /**
+     * Logs a message with a {@code boolean} argument at the INFO level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void info(String format, boolean arg);
+
+    /**
+     * Logs a message with two {@code int} arguments at the INFO level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message with two {@code long} arguments at the INFO level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message with two {@code double} arguments at the INFO level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message with two {@code boolean} arguments at the INFO level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message with a {@code int} argument at the WARN level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void warn(String format, int arg);
+
+    /**
+     * Logs a message with a {@code long} argument at the WARN level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void warn(String format, long arg);
+
+    /**
+     * Logs a message with a {@code double} argument at the WARN level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void warn(String format, double arg);
+
+    /**
+     * Logs a message with a {@code boolean} argument at the WARN level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void warn(String format, boolean arg);
+
+    /**
+     * Logs a message with two {@code int} arguments at the WARN level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message with two {@code long} arguments at the WARN level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message with two {@code double} arguments at the WARN level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message with two {@code boolean} arguments at the WARN level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message with a {@code int} argument at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void error(String format, int arg);
+
+    /**
+     * Logs a message with a {@code long} argument at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void error(String format, long arg);
+
+    /**
+     * Logs a message with a {@code double} argument at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void error(String format, double arg);
+
+    /**
+     * Logs a message with a {@code boolean} argument at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg    the argument
+     */
+    void error(String format, boolean arg);
+
+    /**
+     * Logs a message with two {@code int} arguments at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message with two {@code long} arguments at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message with two {@code double} arguments at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message with two {@code boolean} arguments at the ERROR level.
+     *
+     * @param format the message template
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, boolean arg1, boolean arg2);
+}
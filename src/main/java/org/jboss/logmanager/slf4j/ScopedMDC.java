@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.slf4j.impl.Slf4jMDCProvider;
+
+/**
+ * Runs a task with values added to the MDC for the duration of the task.
+ * <p>
+ * On Java 25 and later the values are bound to a {@code ScopedValue} rather than stored in each thread. They
+ * are bound once per task, inherited by the subtasks of a {@code StructuredTaskScope} and read by formatters without a
+ * per-thread map, which keeps the heap small with many virtual threads. Changes made to the MDC within the task are
+ * discarded when the task completes. On earlier versions of Java the values are added to the MDC of the current thread,
+ * and the previous MDC is restored when the task completes.
+ * </p>
+ * <p>
+ * The values are only bound to a scoped value when the log manager uses the MDC provider of this binding.
+ * </p>
+ *
+ * <pre>{@code
+ * ScopedMDC.with("requestId", requestId)
+ *         .and("user", user)
+ *         .run(() -> handle(request));
+ * }</pre>
+ */
+public final class ScopedMDC {
+    private final Map<String, Object> values;
+
+    private ScopedMDC(final Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates a scoped MDC with the value.
+     *
+     * @param key   the key
+     * @param value the value
+     *
+     * @return the scoped MDC
+     */
+    public static ScopedMDC with(final String key, final Object value) {
+        return new ScopedMDC(Map.of(key, value));
+    }
+
+    /**
+     * Creates a scoped MDC with the values. Entries with a {@code null} key or value are ignored.
+     *
+     * @param values the values
+     *
+     * @return the scoped MDC
+     */
+    public static ScopedMDC with(final Map<String, ?> values) {
+        return new ScopedMDC(Slf4jMDCProvider.snapshotOf(values));
+    }
+
+    /**
+     * Creates a scoped MDC with the values of this scoped MDC and the value.
+     *
+     * @param key   the key
+     * @param value the value
+     *
+     * @return the new scoped MDC
+     */
+    public ScopedMDC and(final String key, final Object value) {
+        final Map<String, Object> values = new HashMap<>(this.values);
+        values.put(key, value);
+        return new ScopedMDC(Slf4jMDCProvider.snapshotOf(values));
+    }
+
+    /**
+     * Runs the task with the values added to the MDC.
+     *
+     * @param task the task to run
+     */
+    public void run(final Runnable task) {
+        Slf4jMDCProvider.runScoped(values, task);
+    }
+
+    /**
+     * Calls the task with the values added to the MDC.
+     *
+     * @param task the task to call
+     * @param <T>  the result type
+     *
+     * @return the result of the task
+     *
+     * @throws Exception if the task fails
+     */
+    public <T> T call(final Callable<T> task) throws Exception {
+        return Slf4jMDCProvider.callScoped(values, task);
+    }
+}
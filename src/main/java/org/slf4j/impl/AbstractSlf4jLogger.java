@@ -0,0 +1,1426 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2014 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ResourceBundle;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.ExtLogRecord.FormatStyle;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+import org.jboss.logmanager.slf4j.LogBatch;
+import org.jboss.logmanager.slf4j.PrimitiveLogger;
+import org.slf4j.Marker;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * The base of the loggers of the binding. {@link Slf4jLogger} is used with SLF4J 1.7 and {@link Slf4jEventAwareLogger}
+ * with SLF4J 2.
+ * <p>
+ * The public methods are final, so no bridge methods are generated in the public subclass and the frames of a log call
+ * always belong to this class when the caller is calculated.
+ * </p>
+ */
+abstract class AbstractSlf4jLogger implements Serializable, LocationAwareLogger, PrimitiveLogger {
+    private final Logger logger;
+    private final transient MarkerLevels markerLevels;
+    private final transient long[] markerMasks;
+    // The sampler for each level index, null if no sampling policy applies to the logger
+    private final transient Sampling.Sampler[] samplers;
+    private final transient LoggerMetrics metrics;
+    private static final String LOGGER_CLASS_NAME = AbstractSlf4jLogger.class.getName();
+    private static final long serialVersionUID = 3482163585432951107L;
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static final int ALT_ERROR_INT = org.jboss.logmanager.Level.ERROR.intValue();
+    private static final int ALT_WARN_INT = org.jboss.logmanager.Level.WARN.intValue();
+    private static final int ALT_INFO_INT = org.jboss.logmanager.Level.INFO.intValue();
+    private static final int ALT_DEBUG_INT = org.jboss.logmanager.Level.DEBUG.intValue();
+    private static final int ALT_TRACE_INT = org.jboss.logmanager.Level.TRACE.intValue();
+
+    /**
+     * If {@code true} the message template is not formatted on the calling thread. Formatting happens the first time
+     * the formatted message is requested from the record.
+     */
+    static final boolean DEFER_FORMATTING = Boolean.getBoolean("org.jboss.logmanager.slf4j.deferFormatting");
+
+    AbstractSlf4jLogger(final Logger logger, final MarkerLevels markerLevels) {
+        this(logger, markerLevels, Sampling.getInstance());
+    }
+
+    AbstractSlf4jLogger(final Logger logger, final MarkerLevels markerLevels, final Sampling sampling) {
+        this.logger = logger;
+        this.markerMasks = markerLevels.resolve(logger.getName());
+        this.markerLevels = markerMasks == null ? null : markerLevels;
+        this.samplers = sampling.resolve(logger.getName());
+        this.metrics = LoggerMetrics.forLogger(logger.getName());
+    }
+
+    public final String getName() {
+        return logger.getName();
+    }
+
+    @Override
+    public final void log(final Marker marker, final String fqcn, final int levelVal, final String fmt, final Object[] argArray,
+            final Throwable t) {
+        final java.util.logging.Level level;
+        switch (levelVal) {
+            case LocationAwareLogger.TRACE_INT:
+                level = org.jboss.logmanager.Level.TRACE;
+                break;
+            case LocationAwareLogger.DEBUG_INT:
+                level = org.jboss.logmanager.Level.DEBUG;
+                break;
+            case LocationAwareLogger.INFO_INT:
+                level = org.jboss.logmanager.Level.INFO;
+                break;
+            case LocationAwareLogger.WARN_INT:
+                level = org.jboss.logmanager.Level.WARN;
+                break;
+            case LocationAwareLogger.ERROR_INT:
+                level = org.jboss.logmanager.Level.ERROR;
+                break;
+            default:
+                level = org.jboss.logmanager.Level.DEBUG;
+                break;
+        }
+        if (isLoggable(level, marker)) {
+            log(marker, level, fqcn, fmt, argArray, t, MessageFormatter.getThrowableCandidate(argArray) != null, null);
+        } else {
+            rejected(MarkerLevels.levelIndex(level));
+        }
+    }
+
+    @Override
+    public final boolean isTraceEnabled() {
+        return logger.isLoggable(Level.TRACE);
+    }
+
+    @Override
+    public final void trace(final String msg) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.TRACE, msg, null);
+    }
+
+    @Override
+    public final void trace(final String format, final Object arg) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.TRACE, format, arg);
+    }
+
+    @Override
+    public final void trace(final String format, final Object arg1, final Object arg2) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.TRACE, format, arg1, arg2);
+    }
+
+    @Override
+    public final void trace(final String format, final Object... arguments) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.TRACE, format, arguments);
+    }
+
+    @Override
+    public final void trace(final String msg, final Throwable t) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.TRACE, msg, t);
+    }
+
+    @Override
+    public final boolean isTraceEnabled(Marker marker) {
+        return isTraceEnabled() || isMarkerEnabled(marker, MarkerLevels.TRACE);
+    }
+
+    @Override
+    public final void trace(Marker marker, String msg) {
+        if (traceDisabled(marker)) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.TRACE, msg, null);
+    }
+
+    @Override
+    public final void trace(Marker marker, String format, Object arg) {
+        if (traceDisabled(marker)) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.TRACE, format, arg);
+    }
+
+    @Override
+    public final void trace(Marker marker, String format, Object arg1, Object arg2) {
+        if (traceDisabled(marker)) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.TRACE, format, arg1, arg2);
+    }
+
+    @Override
+    public final void trace(Marker marker, String format, Object... arguments) {
+        if (traceDisabled(marker)) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.TRACE, format, arguments);
+    }
+
+    @Override
+    public final void trace(Marker marker, String msg, Throwable t) {
+        if (traceDisabled(marker)) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.TRACE, msg, t);
+    }
+
+    @Override
+    public final boolean isDebugEnabled() {
+        return logger.isLoggable(Level.DEBUG);
+    }
+
+    @Override
+    public final void debug(final String msg) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.DEBUG, msg, null);
+    }
+
+    @Override
+    public final void debug(final String format, final Object arg) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.DEBUG, format, arg);
+    }
+
+    @Override
+    public final void debug(final String format, final Object arg1, final Object arg2) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.DEBUG, format, arg1, arg2);
+    }
+
+    @Override
+    public final void debug(final String format, final Object... arguments) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.DEBUG, format, arguments);
+    }
+
+    @Override
+    public final void debug(final String msg, final Throwable t) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.DEBUG, msg, t);
+    }
+
+    @Override
+    public final boolean isDebugEnabled(Marker marker) {
+        return isDebugEnabled() || isMarkerEnabled(marker, MarkerLevels.DEBUG);
+    }
+
+    @Override
+    public final void debug(Marker marker, String msg) {
+        if (debugDisabled(marker)) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.DEBUG, msg, null);
+    }
+
+    @Override
+    public final void debug(Marker marker, String format, Object arg) {
+        if (debugDisabled(marker)) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.DEBUG, format, arg);
+    }
+
+    @Override
+    public final void debug(Marker marker, String format, Object arg1, Object arg2) {
+        if (debugDisabled(marker)) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.DEBUG, format, arg1, arg2);
+    }
+
+    @Override
+    public final void debug(Marker marker, String format, Object... arguments) {
+        if (debugDisabled(marker)) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.DEBUG, format, arguments);
+    }
+
+    @Override
+    public final void debug(Marker marker, String msg, Throwable t) {
+        if (debugDisabled(marker)) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.DEBUG, msg, t);
+    }
+
+    @Override
+    public final boolean isInfoEnabled() {
+        return logger.isLoggable(Level.INFO);
+    }
+
+    @Override
+    public final void info(final String msg) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.INFO, msg, null);
+    }
+
+    @Override
+    public final void info(final String format, final Object arg) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.INFO, format, arg);
+    }
+
+    @Override
+    public final void info(final String format, final Object arg1, final Object arg2) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.INFO, format, arg1, arg2);
+    }
+
+    @Override
+    public final void info(final String format, final Object... arguments) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.INFO, format, arguments);
+    }
+
+    @Override
+    public final void info(final String msg, final Throwable t) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.INFO, msg, t);
+    }
+
+    @Override
+    public final boolean isInfoEnabled(Marker marker) {
+        return isInfoEnabled() || isMarkerEnabled(marker, MarkerLevels.INFO);
+    }
+
+    @Override
+    public final void info(Marker marker, String msg) {
+        if (infoDisabled(marker)) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.INFO, msg, null);
+    }
+
+    @Override
+    public final void info(Marker marker, String format, Object arg) {
+        if (infoDisabled(marker)) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.INFO, format, arg);
+    }
+
+    @Override
+    public final void info(Marker marker, String format, Object arg1, Object arg2) {
+        if (infoDisabled(marker)) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.INFO, format, arg1, arg2);
+    }
+
+    @Override
+    public final void info(Marker marker, String format, Object... arguments) {
+        if (infoDisabled(marker)) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.INFO, format, arguments);
+    }
+
+    @Override
+    public final void info(Marker marker, String msg, Throwable t) {
+        if (infoDisabled(marker)) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.INFO, msg, t);
+    }
+
+    @Override
+    public final boolean isWarnEnabled() {
+        return logger.isLoggable(Level.WARN);
+    }
+
+    @Override
+    public final void warn(final String msg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.WARN, msg, null);
+    }
+
+    @Override
+    public final void warn(final String format, final Object arg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.WARN, format, arg);
+    }
+
+    @Override
+    public final void warn(final String format, final Object... arguments) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.WARN, format, arguments);
+    }
+
+    @Override
+    public final void warn(final String format, final Object arg1, final Object arg2) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.WARN, format, arg1, arg2);
+    }
+
+    @Override
+    public final void warn(final String msg, final Throwable t) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.WARN, msg, t);
+    }
+
+    @Override
+    public final boolean isWarnEnabled(Marker marker) {
+        return isWarnEnabled() || isMarkerEnabled(marker, MarkerLevels.WARN);
+    }
+
+    @Override
+    public final void warn(Marker marker, String msg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.WARN)) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.WARN, msg, null);
+    }
+
+    @Override
+    public final void warn(Marker marker, String format, Object arg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.WARN)) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.WARN, format, arg);
+    }
+
+    @Override
+    public final void warn(Marker marker, String format, Object arg1, Object arg2) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.WARN)) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.WARN, format, arg1, arg2);
+    }
+
+    @Override
+    public final void warn(Marker marker, String format, Object... arguments) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.WARN)) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.WARN, format, arguments);
+    }
+
+    @Override
+    public final void warn(Marker marker, String msg, Throwable t) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.WARN)) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.WARN, msg, t);
+    }
+
+    @Override
+    public final boolean isErrorEnabled() {
+        return logger.isLoggable(Level.ERROR);
+    }
+
+    @Override
+    public final void error(final String msg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.ERROR, msg, null);
+    }
+
+    @Override
+    public final void error(final String format, final Object arg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.ERROR, format, arg);
+    }
+
+    @Override
+    public final void error(final String format, final Object arg1, final Object arg2) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.ERROR, format, arg1, arg2);
+    }
+
+    @Override
+    public final void error(final String format, final Object... arguments) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logFormatted(null, org.jboss.logmanager.Level.ERROR, format, arguments);
+    }
+
+    @Override
+    public final void error(final String msg, final Throwable t) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        log(null, org.jboss.logmanager.Level.ERROR, msg, t);
+    }
+
+    @Override
+    public final boolean isErrorEnabled(Marker marker) {
+        return isErrorEnabled() || isMarkerEnabled(marker, MarkerLevels.ERROR);
+    }
+
+    @Override
+    public final void error(Marker marker, String msg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.ERROR)) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.ERROR, msg, null);
+    }
+
+    @Override
+    public final void error(Marker marker, String format, Object arg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.ERROR)) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.ERROR, format, arg);
+    }
+
+    @Override
+    public final void error(Marker marker, String format, Object arg1, Object arg2) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.ERROR)) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.ERROR, format, arg1, arg2);
+    }
+
+    @Override
+    public final void error(Marker marker, String format, Object... arguments) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.ERROR)) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logFormatted(marker, org.jboss.logmanager.Level.ERROR, format, arguments);
+    }
+
+    @Override
+    public final void error(Marker marker, String msg, Throwable t) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.ERROR)) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        log(marker, org.jboss.logmanager.Level.ERROR, msg, t);
+    }
+
+    @Override
+    public final void trace(final String format, final int arg) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void trace(final String format, final long arg) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void trace(final String format, final double arg) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 1, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg), 0L);
+    }
+
+    @Override
+    public final void trace(final String format, final boolean arg) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 1, MessageTemplate.BOOLEAN, arg ? 1L : 0L, 0L);
+    }
+
+    @Override
+    public final void trace(final String format, final int arg1, final int arg2) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void trace(final String format, final long arg1, final long arg2) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void trace(final String format, final double arg1, final double arg2) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 2, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg1),
+                Double.doubleToRawLongBits(arg2));
+    }
+
+    @Override
+    public final void trace(final String format, final boolean arg1, final boolean arg2) {
+        if (traceDisabled()) {
+            rejected(MarkerLevels.TRACE);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.TRACE, format, 2, MessageTemplate.BOOLEAN, arg1 ? 1L : 0L,
+                arg2 ? 1L : 0L);
+    }
+
+    @Override
+    public final void debug(final String format, final int arg) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void debug(final String format, final long arg) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void debug(final String format, final double arg) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 1, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg), 0L);
+    }
+
+    @Override
+    public final void debug(final String format, final boolean arg) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 1, MessageTemplate.BOOLEAN, arg ? 1L : 0L, 0L);
+    }
+
+    @Override
+    public final void debug(final String format, final int arg1, final int arg2) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void debug(final String format, final long arg1, final long arg2) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void debug(final String format, final double arg1, final double arg2) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 2, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg1),
+                Double.doubleToRawLongBits(arg2));
+    }
+
+    @Override
+    public final void debug(final String format, final boolean arg1, final boolean arg2) {
+        if (debugDisabled()) {
+            rejected(MarkerLevels.DEBUG);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.DEBUG, format, 2, MessageTemplate.BOOLEAN, arg1 ? 1L : 0L,
+                arg2 ? 1L : 0L);
+    }
+
+    @Override
+    public final void info(final String format, final int arg) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void info(final String format, final long arg) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void info(final String format, final double arg) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 1, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg), 0L);
+    }
+
+    @Override
+    public final void info(final String format, final boolean arg) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 1, MessageTemplate.BOOLEAN, arg ? 1L : 0L, 0L);
+    }
+
+    @Override
+    public final void info(final String format, final int arg1, final int arg2) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void info(final String format, final long arg1, final long arg2) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void info(final String format, final double arg1, final double arg2) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 2, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg1),
+                Double.doubleToRawLongBits(arg2));
+    }
+
+    @Override
+    public final void info(final String format, final boolean arg1, final boolean arg2) {
+        if (infoDisabled()) {
+            rejected(MarkerLevels.INFO);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.INFO, format, 2, MessageTemplate.BOOLEAN, arg1 ? 1L : 0L,
+                arg2 ? 1L : 0L);
+    }
+
+    @Override
+    public final void warn(final String format, final int arg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void warn(final String format, final long arg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void warn(final String format, final double arg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 1, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg), 0L);
+    }
+
+    @Override
+    public final void warn(final String format, final boolean arg) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 1, MessageTemplate.BOOLEAN, arg ? 1L : 0L, 0L);
+    }
+
+    @Override
+    public final void warn(final String format, final int arg1, final int arg2) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void warn(final String format, final long arg1, final long arg2) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void warn(final String format, final double arg1, final double arg2) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 2, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg1),
+                Double.doubleToRawLongBits(arg2));
+    }
+
+    @Override
+    public final void warn(final String format, final boolean arg1, final boolean arg2) {
+        if (ALT_WARN_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.WARN);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.WARN, format, 2, MessageTemplate.BOOLEAN, arg1 ? 1L : 0L,
+                arg2 ? 1L : 0L);
+    }
+
+    @Override
+    public final void error(final String format, final int arg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void error(final String format, final long arg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 1, MessageTemplate.LONG, arg, 0L);
+    }
+
+    @Override
+    public final void error(final String format, final double arg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 1, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg), 0L);
+    }
+
+    @Override
+    public final void error(final String format, final boolean arg) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 1, MessageTemplate.BOOLEAN, arg ? 1L : 0L, 0L);
+    }
+
+    @Override
+    public final void error(final String format, final int arg1, final int arg2) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void error(final String format, final long arg1, final long arg2) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 2, MessageTemplate.LONG, arg1,
+                arg2);
+    }
+
+    @Override
+    public final void error(final String format, final double arg1, final double arg2) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 2, MessageTemplate.DOUBLE, Double.doubleToRawLongBits(arg1),
+                Double.doubleToRawLongBits(arg2));
+    }
+
+    @Override
+    public final void error(final String format, final boolean arg1, final boolean arg2) {
+        if (ALT_ERROR_INT < logger.getEffectiveLevel()) {
+            rejected(MarkerLevels.ERROR);
+            return;
+        }
+        logPrimitives(org.jboss.logmanager.Level.ERROR, format, 2, MessageTemplate.BOOLEAN, arg1 ? 1L : 0L,
+                arg2 ? 1L : 0L);
+    }
+
+    /**
+     * Returns the log context of the underlying logger.
+     *
+     * @return the log context
+     */
+    LogContext getLogContext() {
+        return logger.getLogContext();
+    }
+
+    /**
+     * Creates a {@linkplain LogBatch batch} of events logged at the level.
+     *
+     * @param level the level of the events
+     *
+     * @return the batch
+     */
+    LogBatch batch(final org.slf4j.event.Level level) {
+        return new Slf4jLogBatch(this, toLevel(level));
+    }
+
+    protected Object readResolve() throws ObjectStreamException {
+        // The marker levels, samplers and metrics are transient, resolve the cached logger which has them
+        return Slf4jLoggerFactory.getLogger(logger.getLogContext(), logger.getName());
+    }
+
+    private void log(final Marker marker, final java.util.logging.Level level, final String message, final Throwable t) {
+        final ReusableLogRecord reusable = ReusableLogRecord.acquire();
+        if (reusable == null) {
+            log(marker, level, message, t, null);
+            return;
+        }
+        try {
+            log(marker, level, message, t, reusable);
+        } finally {
+            reusable.release();
+        }
+    }
+
+    private void log(final Marker marker, final java.util.logging.Level level, final String message, final Throwable t,
+            final ReusableLogRecord reusable) {
+        enabled(level);
+        final long suppressed = sample(level, message);
+        if (suppressed < 0L) {
+            return;
+        }
+        logMessage(marker, level, message, message, t, suppressed, reusable);
+    }
+
+    /**
+     * Logs a message with one or two primitive arguments. The arguments are formatted once the sampling policy has
+     * accepted the event.
+     *
+     * @see MessageTemplate#format(String, int, int, long, long)
+     */
+    private void logPrimitives(final java.util.logging.Level level, final String format, final int count,
+            final int kind, final long arg1, final long arg2) {
+        enabled(level);
+        final long suppressed = sample(level, format);
+        if (suppressed < 0L) {
+            return;
+        }
+        final String message = MessageTemplate.format(format, count, kind, arg1, arg2);
+        final ReusableLogRecord reusable = ReusableLogRecord.acquire();
+        if (reusable == null) {
+            logMessage(null, level, format, message, null, suppressed, null);
+            return;
+        }
+        try {
+            logMessage(null, level, format, message, null, suppressed, reusable);
+        } finally {
+            reusable.release();
+        }
+    }
+
+    /**
+     * Logs a formatted message.
+     *
+     * @param template the message template, used to identify the call in events
+     * @param message  the formatted message
+     */
+    private void logMessage(final Marker marker, final java.util.logging.Level level, final String template,
+            final String message, final Throwable t, final long suppressed, final ReusableLogRecord reusable) {
+        final AsyncDispatcher async = AsyncDispatcher.INSTANCE;
+        if (async != null
+                && async.enqueue(this, marker, level, LOGGER_CLASS_NAME, message, null, t, false, null, suppressed)) {
+            return;
+        }
+        final Object event = FlightRecorderEvents.beginSlowLogCall();
+        final long start = timingStart();
+        final ExtLogRecord rec = reusable != null ? reusable.reset(level, message, null, false)
+                : new ExtLogRecord(level, message, FormatStyle.NO_FORMAT, LOGGER_CLASS_NAME);
+        resolveCaller(rec);
+        setSuppressed(rec, suppressed);
+        dispatch(marker, rec, t, null, start);
+        FlightRecorderEvents.completeSlowLogCall(event, getName(), level, template);
+    }
+
+    private void logFormatted(final Marker marker, final java.util.logging.Level level, final String format,
+            final Object arg) {
+        final ReusableLogRecord reusable = ReusableLogRecord.acquire();
+        if (reusable == null) {
+            logFormatted(marker, level, format, new Object[] { arg });
+            return;
+        }
+        try {
+            logArguments(marker, level, format, reusable.arguments(arg), reusable);
+        } finally {
+            reusable.release();
+        }
+    }
+
+    private void logFormatted(final Marker marker, final java.util.logging.Level level, final String format,
+            final Object arg1, final Object arg2) {
+        final ReusableLogRecord reusable = ReusableLogRecord.acquire();
+        if (reusable == null) {
+            logFormatted(marker, level, format, new Object[] { arg1, arg2 });
+            return;
+        }
+        try {
+            logArguments(marker, level, format, reusable.arguments(arg1, arg2), reusable);
+        } finally {
+            reusable.release();
+        }
+    }
+
+    private void logFormatted(final Marker marker, final java.util.logging.Level level, final String format,
+            final Object... arguments) {
+        final ReusableLogRecord reusable = ReusableLogRecord.acquire();
+        if (reusable == null) {
+            logArguments(marker, level, format, arguments, null);
+            return;
+        }
+        try {
+            logArguments(marker, level, format, arguments, reusable);
+        } finally {
+            reusable.release();
+        }
+    }
+
+    private void logArguments(final Marker marker, final java.util.logging.Level level, final String format,
+            final Object[] arguments, final ReusableLogRecord reusable) {
+        final Throwable t = MessageFormatter.getThrowableCandidate(arguments);
+        log(marker, level, LOGGER_CLASS_NAME, format, arguments, t, t != null, reusable);
+    }
+
+    /**
+     * Logs an event.
+     *
+     * @param reusable the {@linkplain ReusableLogRecord reusable record} acquired for the call, or {@code null} to
+     *                 create a new record
+     */
+    private void log(final Marker marker, final java.util.logging.Level level, final String fqcn, final String format,
+            final Object[] arguments, final Throwable t, final boolean trailingThrowable,
+            final ReusableLogRecord reusable) {
+        enabled(level);
+        final long suppressed = sample(level, format);
+        if (suppressed < 0L) {
+            return;
+        }
+        final AsyncDispatcher async = AsyncDispatcher.INSTANCE;
+        if (async != null
+                && async.enqueue(this, marker, level, fqcn, format, arguments, t, trailingThrowable, null, suppressed)) {
+            return;
+        }
+        final Object event = FlightRecorderEvents.beginSlowLogCall();
+        final long start = timingStart();
+        final ExtLogRecord rec = resolveCaller(reusable != null ? reusable.reset(level, format, arguments, trailingThrowable)
+                : createRecord(level, fqcn, format, arguments, trailingThrowable));
+        setSuppressed(rec, suppressed);
+        dispatch(marker, rec, t, arguments, start);
+        FlightRecorderEvents.completeSlowLogCall(event, getName(), level, format);
+    }
+
+    /**
+     * Applies the {@linkplain Sampling sampling policy} of the logger to an event. This is checked before the message is
+     * formatted or the record is created.
+     *
+     * @param level  the level of the event
+     * @param format the message template of the event
+     *
+     * @return the number of events not logged since the previous logged event, or {@code -1} if the event should not be
+     *         logged
+     */
+    long sample(final java.util.logging.Level level, final String format) {
+        final Sampling.Sampler[] samplers = this.samplers;
+        if (samplers == null) {
+            return 0L;
+        }
+        final Sampling.Sampler sampler = samplers[MarkerLevels.levelIndex(level)];
+        if (sampler == null) {
+            return 0L;
+        }
+        final long suppressed = sampler.sample(format);
+        if (suppressed < 0L) {
+            FlightRecorderEvents.dropped(getName(), level, format, LogDroppedEvent.SAMPLING);
+        }
+        return suppressed;
+    }
+
+    static void setSuppressed(final ExtLogRecord rec, final long suppressed) {
+        if (suppressed > 0L) {
+            rec.putMdc(Sampling.MDC_KEY, Long.toString(suppressed));
+        }
+    }
+
+    /**
+     * Creates the record for an event handed off to the {@link AsyncDispatcher} and logs it. This is invoked on the
+     * dispatcher thread.
+     *
+     * @param event the captured event
+     */
+    void publish(final AsyncDispatcher.Event event) {
+        final ExtLogRecord rec = createRecord(event.level, event.fqcn, event.format, event.arguments,
+                event.trailingThrowable);
+        event.apply(rec);
+        log(event.marker, rec, event.thrown, event.arguments);
+    }
+
+    private boolean traceDisabled() {
+        return ALT_TRACE_INT < logger.getEffectiveLevel();
+    }
+
+    private boolean traceDisabled(final Marker marker) {
+        return ALT_TRACE_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.TRACE);
+    }
+
+    private boolean debugDisabled() {
+        return ALT_DEBUG_INT < logger.getEffectiveLevel();
+    }
+
+    private boolean debugDisabled(final Marker marker) {
+        return ALT_DEBUG_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.DEBUG);
+    }
+
+    private boolean infoDisabled() {
+        return ALT_INFO_INT < logger.getEffectiveLevel();
+    }
+
+    private boolean infoDisabled(final Marker marker) {
+        return ALT_INFO_INT < logger.getEffectiveLevel() && !isMarkerEnabled(marker, MarkerLevels.INFO);
+    }
+
+    boolean isLoggable(final java.util.logging.Level level, final Marker marker) {
+        return logger.isLoggable(level) || isMarkerEnabled(marker, MarkerLevels.levelIndex(level));
+    }
+
+    /**
+     * Checks if a marker level entry applies to the logger at the level.
+     *
+     * @param levelIndex the index of the level
+     *
+     * @return {@code true} if an event with a marker may be logged at the level, otherwise {@code false}
+     */
+    boolean hasMarkerLevels(final int levelIndex) {
+        final long[] markerMasks = this.markerMasks;
+        return markerMasks != null && markerMasks[levelIndex] != 0L;
+    }
+
+    private boolean isMarkerEnabled(final Marker marker, final int levelIndex) {
+        final MarkerLevels markerLevels = this.markerLevels;
+        return marker != null && markerLevels != null && markerLevels.isEnabled(marker, markerMasks[levelIndex]);
+    }
+
+    void log(final Marker marker, final ExtLogRecord rec, final Throwable t, final Object[] params) {
+        logger.logRaw(prepare(marker, rec, t, params));
+    }
+
+    private ExtLogRecord prepare(final Marker marker, final ExtLogRecord rec, final Throwable t, final Object[] params) {
+        rec.setThrown(deduplicate(rec, t));
+        rec.setParameters(params);
+        setMarker(rec, marker);
+        if (LoggerMetrics.ENABLED) {
+            metrics.emitted[MarkerLevels.levelIndex(rec.getLevel())].increment();
+        }
+        return rec;
+    }
+
+    /**
+     * Creates the record for an event added to a {@linkplain Slf4jLogBatch batch}. The level has already been checked
+     * when the batch was created.
+     *
+     * @return the record, or {@code null} if the event was sampled out or handed off to the {@link AsyncDispatcher}
+     */
+    ExtLogRecord createBatchRecord(final java.util.logging.Level level, final String fqcn, final String format,
+            final Object[] arguments, final Throwable t, final boolean trailingThrowable) {
+        enabled(level);
+        final long suppressed = sample(level, format);
+        if (suppressed < 0L) {
+            return null;
+        }
+        final AsyncDispatcher async = AsyncDispatcher.INSTANCE;
+        if (async != null
+                && async.enqueue(this, null, level, fqcn, format, arguments, t, trailingThrowable, null, suppressed)) {
+            return null;
+        }
+        final ExtLogRecord rec = resolveCaller(arguments == null ? new ExtLogRecord(level, format, FormatStyle.NO_FORMAT, fqcn)
+                : createRecord(level, fqcn, format, arguments, trailingThrowable));
+        setSuppressed(rec, suppressed);
+        rec.setLoggerName(logger.getName());
+        final ResourceBundle bundle = logger.getResourceBundle();
+        if (bundle != null) {
+            rec.setResourceBundleName(bundle.getBaseBundleName());
+            rec.setResourceBundle(bundle);
+        }
+        return prepare(null, rec, t, arguments);
+    }
+
+    /**
+     * Publishes the records of a {@linkplain Slf4jLogBatch batch}.
+     *
+     * @param records the records
+     * @param count   the number of records
+     */
+    void publish(final ExtLogRecord[] records, final int count) {
+        for (int i = 0; i < count; i++) {
+            logger.logRaw(records[i]);
+        }
+    }
+
+    /**
+     * Logs the record, recording the time taken if the call is timed.
+     *
+     * @param start the value of {@link #timingStart()} before the record was created
+     */
+    void dispatch(final Marker marker, final ExtLogRecord rec, final Throwable t, final Object[] params,
+            final long start) {
+        if (start == NOT_TIMED) {
+            log(marker, rec, t, params);
+            return;
+        }
+        final long created = System.nanoTime();
+        log(marker, rec, t, params);
+        metrics.timing(created - start, System.nanoTime() - created);
+    }
+
+    /**
+     * Returns the start time if the current call should be timed.
+     *
+     * @return the start time or {@link #NOT_TIMED}
+     */
+    static long timingStart() {
+        return LoggerMetrics.ENABLED && LoggerMetrics.sampleTiming() ? System.nanoTime() : NOT_TIMED;
+    }
+
+    void enabled(final java.util.logging.Level level) {
+        if (LoggerMetrics.ENABLED) {
+            metrics.enabled[MarkerLevels.levelIndex(level)].increment();
+        }
+    }
+
+    private void rejected(final int levelIndex) {
+        if (LoggerMetrics.ENABLED) {
+            metrics.rejected[levelIndex].increment();
+        }
+    }
+
+    private Throwable deduplicate(final ExtLogRecord rec, final Throwable t) {
+        final ThrowableDeduplicator deduplicator = ThrowableDeduplicator.INSTANCE;
+        return deduplicator == null || t == null ? t : deduplicator.deduplicate(logger, rec, t);
+    }
+
+    static java.util.logging.Level toLevel(final org.slf4j.event.Level level) {
+        switch (level) {
+            case TRACE:
+                return org.jboss.logmanager.Level.TRACE;
+            case INFO:
+                return org.jboss.logmanager.Level.INFO;
+            case WARN:
+                return org.jboss.logmanager.Level.WARN;
+            case ERROR:
+                return org.jboss.logmanager.Level.ERROR;
+            default:
+                return org.jboss.logmanager.Level.DEBUG;
+        }
+    }
+
+    static ExtLogRecord createRecord(final java.util.logging.Level level, final String fqcn, final String format,
+            final Object[] arguments, final boolean trailingThrowable) {
+        if (DEFER_FORMATTING) {
+            return new Slf4jLogRecord(level, format, fqcn, arguments, trailingThrowable);
+        }
+        return new ExtLogRecord(level, formatMessage(format, arguments, trailingThrowable), FormatStyle.NO_FORMAT, fqcn);
+    }
+
+    /**
+     * Sets the source information of the record if {@linkplain CallerResolver#ENABLED caller resolution} is enabled.
+     * This must be invoked on the thread which called the logger.
+     *
+     * @param rec the record
+     *
+     * @return the record
+     */
+    static ExtLogRecord resolveCaller(final ExtLogRecord rec) {
+        if (CallerResolver.ENABLED) {
+            CallerResolver.resolve(rec.getLoggerClassName()).apply(rec);
+        }
+        return rec;
+    }
+
+    static String formatMessage(final String format, final Object[] arguments, final boolean trailingThrowable) {
+        return MessageTemplate.format(format, arguments,
+                arguments == null ? 0 : trailingThrowable ? arguments.length - 1 : arguments.length);
+    }
+
+    private void setMarker(ExtLogRecord rec, Marker marker) {
+        if (MARKER_SETTER != null) {
+            try {
+                MARKER_SETTER.invoke(rec, marker);
+            } catch (Throwable e) {
+                // ignored
+            }
+        }
+    }
+
+    private static final MethodHandle MARKER_SETTER;
+
+    static {
+        MethodHandle setMarker = null;
+        try {
+            setMarker = MethodHandles.lookup().findVirtual(ExtLogRecord.class, "setMarker",
+                    MethodType.methodType(void.class, Object.class));
+        } catch (ReflectiveOperationException ignored) {
+            // old version of jboss-logmanager
+        } finally {
+            MARKER_SETTER = setMarker;
+        }
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.NDC;
+import org.jboss.logmanager.StandardOutputStreams;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+
+/**
+ * Hands events off from the calling thread to a dispatcher thread which creates the log records and publishes them to
+ * the handlers.
+ * <p>
+ * The calling thread only captures the arguments of the call, the MDC, the NDC, the thread and the time into a
+ * preallocated slot of a bounded ring buffer. The ring buffer is a bounded multi-producer queue where each slot carries a
+ * sequence number which indicates whether it can be written or read. What happens if the ring buffer is full is
+ * determined by the {@link Overflow} policy.
+ * </p>
+ * <p>
+ * The caller of the log method is not known on the dispatcher thread. The records only have a source class and method
+ * if the caller is {@linkplain CallerResolver#ENABLED resolved} on the calling thread.
+ * </p>
+ */
+final class AsyncDispatcher {
+
+    /**
+     * The policy used when the ring buffer is full.
+     */
+    enum Overflow {
+        /**
+         * Waits until a slot is free.
+         */
+        BLOCK,
+        /**
+         * Drops events below {@link org.jboss.logmanager.Level#WARN WARN} and waits for other events.
+         */
+        DROP_BELOW_WARN,
+        /**
+         * Drops the oldest event in the ring buffer.
+         */
+        DROP_OLDEST,
+        ;
+
+        static Overflow parse(final String value) {
+            if (value == null || value.isBlank()) {
+                return BLOCK;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                StandardOutputStreams.printError("Invalid async overflow policy \"%s\", using %s%n", value, BLOCK);
+                return BLOCK;
+            }
+        }
+    }
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int WARN_INT = org.jboss.logmanager.Level.WARN.intValue();
+    private static final int SPINS = 64;
+
+    /**
+     * The dispatcher used by all loggers, or {@code null} if the asynchronous mode is not enabled.
+     */
+    static final AsyncDispatcher INSTANCE = create();
+
+    private final Event[] ring;
+    private final int mask;
+    private final Overflow overflow;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder droppedBelowWarn = new LongAdder();
+    private final LongAdder droppedOldest = new LongAdder();
+    private volatile Thread consumer;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+
+    AsyncDispatcher(final int capacity, final Overflow overflow) {
+        // The capacity must be a power of two, and at least two for the sequence numbers to be distinct
+        final int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        ring = new Event[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Event(i);
+        }
+        mask = size - 1;
+        this.overflow = overflow;
+    }
+
+    private static AsyncDispatcher create() {
+        if (!Boolean.getBoolean("org.jboss.logmanager.slf4j.async")) {
+            return null;
+        }
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(
+                Integer.getInteger("org.jboss.logmanager.slf4j.asyncBufferSize", DEFAULT_CAPACITY),
+                Overflow.parse(System.getProperty("org.jboss.logmanager.slf4j.asyncOverflow")));
+        dispatcher.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(dispatcher::close, "slf4j-async-shutdown"));
+        return dispatcher;
+    }
+
+    /**
+     * Starts the dispatcher thread.
+     */
+    void start() {
+        final Thread thread = new Thread(this::run, "slf4j-async-dispatcher");
+        thread.setDaemon(true);
+        consumer = thread;
+        thread.start();
+    }
+
+    /**
+     * Captures the event into the ring buffer.
+     *
+     * @return {@code true} if the event was handed off or dropped, {@code false} if the event must be logged on the
+     *         calling thread
+     */
+    boolean enqueue(final AbstractSlf4jLogger logger, final Marker marker, final java.util.logging.Level level,
+            final String fqcn,
+            final String format, final Object[] arguments, final Throwable thrown, final boolean trailingThrowable,
+            final List<KeyValuePair> keyValuePairs, final long suppressed) {
+        if (closed || Thread.currentThread() == consumer) {
+            // Events logged by handlers on the dispatcher thread would wait on themselves
+            return false;
+        }
+        final Event event = claim(level);
+        if (event == null) {
+            FlightRecorderEvents.dropped(logger.getName(), level, format, LogDroppedEvent.ASYNC_BELOW_WARN);
+            return true;
+        }
+        event.logger = logger;
+        event.marker = marker;
+        event.level = level;
+        event.fqcn = fqcn;
+        event.format = format;
+        event.arguments = arguments;
+        event.thrown = thrown;
+        event.trailingThrowable = trailingThrowable;
+        event.keyValuePairs = keyValuePairs;
+        event.suppressed = suppressed;
+        event.capture();
+        event.sequence = event.claimed + 1;
+        if (sleeping) {
+            LockSupport.unpark(consumer);
+        }
+        if (closed) {
+            // The dispatcher may have stopped before this event was published
+            drain();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of events dropped because they were below {@code WARN} while the ring buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedBelowWarn() {
+        return droppedBelowWarn.sum();
+    }
+
+    /**
+     * Returns the number of events dropped to make room for newer events.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedOldest() {
+        return droppedOldest.sum();
+    }
+
+    /**
+     * Returns the approximate number of events waiting to be published.
+     *
+     * @return the number of pending events
+     */
+    int getPending() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Publishes all events in the ring buffer on the current thread.
+     *
+     * @return the number of events published
+     */
+    int drain() {
+        int count = 0;
+        Event event;
+        while ((event = poll()) != null) {
+            publish(event);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Stops the dispatcher thread after the ring buffer has been drained. Events logged afterward are logged on the
+     * calling thread.
+     */
+    void close() {
+        closed = true;
+        final Thread consumer = this.consumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+        final long dropped = getDroppedBelowWarn() + getDroppedOldest();
+        if (dropped > 0) {
+            StandardOutputStreams.printError("%d log events were dropped as the async buffer was full%n", dropped);
+        }
+    }
+
+    private void run() {
+        int idle = 0;
+        while (true) {
+            if (drain() > 0) {
+                idle = 0;
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            if (idle++ < SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            sleeping = true;
+            // Check again as a producer may not have seen the flag before publishing
+            if (isEmpty() && !closed) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100L));
+            }
+            sleeping = false;
+        }
+    }
+
+    private Event claim(final java.util.logging.Level level) {
+        int spins = 0;
+        long pos = tail.get();
+        while (true) {
+            final Event event = ring[(int) pos & mask];
+            final long diff = event.sequence - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    event.claimed = pos;
+                    return event;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // The ring buffer is full
+                if (overflow == Overflow.DROP_OLDEST) {
+                    final Event oldest = poll();
+                    if (oldest != null) {
+                        FlightRecorderEvents.dropped(oldest.logger.getName(), oldest.level, oldest.format,
+                                LogDroppedEvent.ASYNC_OLDEST);
+                        oldest.clear();
+                        release(oldest);
+                        droppedOldest.increment();
+                    }
+                } else if (overflow == Overflow.DROP_BELOW_WARN && level.intValue() < WARN_INT) {
+                    droppedBelowWarn.increment();
+                    return null;
+                } else if (closed) {
+                    // Nothing will make room for the event, publish pending events on this thread
+                    drain();
+                } else if (spins++ < SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.unpark(consumer);
+                    LockSupport.parkNanos(this, 10_000L);
+                }
+                pos = tail.get();
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    private Event poll() {
+        long pos = head.get();
+        while (true) {
+            final Event event = ring[(int) pos & mask];
+            final long diff = event.sequence - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    event.claimed = pos;
+                    return event;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        final long pos = head.get();
+        return ring[(int) pos & mask].sequence != pos + 1;
+    }
+
+    private void publish(final Event event) {
+        final AbstractSlf4jLogger logger = event.logger;
+        final Object slowCall = FlightRecorderEvents.beginSlowLogCall();
+        try {
+            logger.publish(event);
+            FlightRecorderEvents.completeSlowLogCall(slowCall, logger.getName(), event.level, event.format);
+        } catch (Throwable t) {
+            StandardOutputStreams.printError(t, "Failed to publish a log event for logger %s%n", logger.getName());
+        } finally {
+            event.clear();
+            release(event);
+        }
+    }
+
+    private void release(final Event event) {
+        event.sequence = event.claimed + mask + 1;
+    }
+
+    /**
+     * A slot of the ring buffer which holds a captured event.
+     */
+    static final class Event {
+        volatile long sequence;
+        long claimed;
+        AbstractSlf4jLogger logger;
+        Marker marker;
+        java.util.logging.Level level;
+        String fqcn;
+        String format;
+        Object[] arguments;
+        Throwable thrown;
+        boolean trailingThrowable;
+        List<KeyValuePair> keyValuePairs;
+        long suppressed;
+        private Instant instant;
+        private String threadName;
+        private long threadId;
+        private Map<String, Object> mdc;
+        private String ndc;
+        private CallerResolver.CallSite callSite;
+
+        Event(final long sequence) {
+            this.sequence = sequence;
+        }
+
+        /**
+         * Applies the state captured from the calling thread to the record.
+         *
+         * @param record the record created on the dispatcher thread
+         */
+        void apply(final ExtLogRecord record) {
+            record.setInstant(instant);
+            record.setThreadName(threadName);
+            record.setLongThreadID(threadId);
+            record.setMdc(mdc);
+            record.setNdc(ndc);
+            AbstractSlf4jLogger.setSuppressed(record, suppressed);
+            if (callSite != null) {
+                callSite.apply(record);
+            } else {
+                record.disableCallerCalculation();
+            }
+        }
+
+        private void capture() {
+            final Thread thread = Thread.currentThread();
+            instant = Instant.now();
+            threadName = thread.getName();
+            threadId = thread.getId();
+            mdc = MDC.isEmpty() ? Map.of() : MDC.copyObject();
+            ndc = NDC.get();
+            if (CallerResolver.ENABLED) {
+                callSite = CallerResolver.resolve(fqcn);
+            }
+        }
+
+        private void clear() {
+            logger = null;
+            marker = null;
+            level = null;
+            fqcn = null;
+            format = null;
+            arguments = null;
+            thrown = null;
+            keyValuePairs = null;
+            instant = null;
+            threadName = null;
+            mdc = null;
+            ndc = null;
+            callSite = null;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.StackWalker.StackFrame;
+import java.lang.invoke.MethodType;
+import java.security.PrivilegedAction;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * Resolves the caller of a log method on the calling thread.
+ * <p>
+ * The stack is walked with a {@link StackWalker} up to a fixed number of frames. The caller is the first frame after
+ * the frames of the logger class name. The source information of a call site is cached on the declaring class, keyed
+ * by the method and the bytecode index, so the expensive conversion to a {@link StackTraceElement} only happens once for
+ * each call site.
+ * </p>
+ */
+final class CallerResolver {
+
+    /**
+     * Indicates whether the caller is resolved when the record is created.
+     */
+    static final boolean ENABLED = Boolean.getBoolean("org.jboss.logmanager.slf4j.resolveCaller");
+
+    private static final int MAX_FRAMES = 128;
+
+    private static final StackWalker WALKER = privileged(
+            (PrivilegedAction<StackWalker>) () -> StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE));
+
+    // The call sites are stored on the class, so they do not prevent the class loader from being collected
+    private static final ClassValue<ConcurrentMap<Key, CallSite>> CALL_SITES = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Key, CallSite> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private CallerResolver() {
+    }
+
+    /**
+     * Resolves the caller of the logger class.
+     *
+     * @param loggerClassName the class name of the logger, the caller is the first frame after the frames of this
+     *                        class
+     *
+     * @return the call site, {@link CallSite#UNKNOWN} if the caller could not be found
+     */
+    static CallSite resolve(final String loggerClassName) {
+        return WALKER.walk(new FindCaller(loggerClassName));
+    }
+
+    private static CallSite lookup(final StackFrame frame) {
+        final ConcurrentMap<Key, CallSite> callSites = CALL_SITES.get(frame.getDeclaringClass());
+        final Key key = new Key(frame.getMethodName(), frame.getMethodType(), frame.getByteCodeIndex());
+        final CallSite callSite = callSites.get(key);
+        if (callSite != null) {
+            return callSite;
+        }
+        final CallSite newCallSite = new CallSite(frame.toStackTraceElement());
+        final CallSite appearing = callSites.putIfAbsent(key, newCallSite);
+        return appearing != null ? appearing : newCallSite;
+    }
+
+    @SuppressWarnings("removal")
+    private static <T> T privileged(final PrivilegedAction<T> action) {
+        return System.getSecurityManager() == null ? action.run()
+                : java.security.AccessController.doPrivileged(action);
+    }
+
+    /**
+     * The source information for a call site.
+     */
+    static final class CallSite {
+        /**
+         * Indicates the caller could not be found.
+         */
+        static final CallSite UNKNOWN = new CallSite(null, null, null, -1, null, null);
+
+        private final String className;
+        private final String methodName;
+        private final String fileName;
+        private final int lineNumber;
+        private final String moduleName;
+        private final String moduleVersion;
+
+        private CallSite(final StackTraceElement element) {
+            this(element.getClassName(), element.getMethodName(), element.getFileName(), element.getLineNumber(),
+                    element.getModuleName(), element.getModuleVersion());
+        }
+
+        private CallSite(final String className, final String methodName, final String fileName, final int lineNumber,
+                final String moduleName, final String moduleVersion) {
+            this.className = className;
+            this.methodName = methodName;
+            this.fileName = fileName;
+            this.lineNumber = lineNumber;
+            this.moduleName = moduleName;
+            this.moduleVersion = moduleVersion;
+        }
+
+        /**
+         * Sets the source information on the record. This also prevents the record from calculating the caller.
+         *
+         * @param record the record
+         */
+        void apply(final ExtLogRecord record) {
+            record.setSourceClassName(className);
+            record.setSourceMethodName(methodName);
+            record.setSourceFileName(fileName);
+            record.setSourceLineNumber(lineNumber);
+            record.setSourceModuleName(moduleName);
+            record.setSourceModuleVersion(moduleVersion);
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        String getMethodName() {
+            return methodName;
+        }
+
+        String getFileName() {
+            return fileName;
+        }
+
+        int getLineNumber() {
+            return lineNumber;
+        }
+    }
+
+    private static final class FindCaller implements Function<Stream<StackFrame>, CallSite> {
+        private final String loggerClassName;
+
+        private FindCaller(final String loggerClassName) {
+            this.loggerClassName = loggerClassName;
+        }
+
+        @Override
+        public CallSite apply(final Stream<StackFrame> frames) {
+            final Iterator<StackFrame> iter = frames.limit(MAX_FRAMES).iterator();
+            boolean found = false;
+            while (iter.hasNext()) {
+                final StackFrame frame = iter.next();
+                if (frame.getClassName().equals(loggerClassName)) {
+                    found = true;
+                } else if (found) {
+                    return lookup(frame);
+                }
+            }
+            return CallSite.UNKNOWN;
+        }
+    }
+
+    private static final class Key {
+        private final String methodName;
+        private final MethodType methodType;
+        private final int byteCodeIndex;
+        private final int hashCode;
+
+        private Key(final String methodName, final MethodType methodType, final int byteCodeIndex) {
+            this.methodName = methodName;
+            this.methodType = methodType;
+            this.byteCodeIndex = byteCodeIndex;
+            hashCode = 31 * (31 * methodName.hashCode() + methodType.hashCode()) + byteCodeIndex;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return byteCodeIndex == other.byteCodeIndex && methodName.equals(other.methodName)
+                    && methodType.equals(other.methodType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Optional;
+
+import jdk.jfr.EventType;
+
+/**
+ * Creates the JDK Flight Recorder events of the binding.
+ * <p>
+ * The {@code jdk.jfr} module is optional. Whether it can be used is checked once and, if it cannot, the methods do
+ * nothing and the event classes are never loaded. The events are passed around as {@link Object}s so the callers do not
+ * refer to the event classes either. An event is only allocated if its type is enabled in a recording.
+ * </p>
+ */
+final class FlightRecorderEvents {
+    /**
+     * Indicates whether the {@code jdk.jfr} module is available.
+     */
+    static final boolean AVAILABLE = isAvailable();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Begins a {@link SlowLogCallEvent}.
+     *
+     * @return the event or {@code null} if the events are not available or the event type is not enabled
+     */
+    static Object beginSlowLogCall() {
+        if (!AVAILABLE || !Types.SLOW_LOG_CALL.isEnabled()) {
+            return null;
+        }
+        final SlowLogCallEvent event = new SlowLogCallEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a {@link SlowLogCallEvent} and commits it if it exceeded the threshold.
+     *
+     * @param event      the event returned by {@link #beginSlowLogCall()}
+     * @param loggerName the name of the logger
+     * @param level      the level of the call
+     * @param template   the message template of the call
+     */
+    static void completeSlowLogCall(final Object event, final String loggerName, final java.util.logging.Level level,
+            final String template) {
+        if (event != null) {
+            ((SlowLogCallEvent) event).complete(loggerName, level, template);
+        }
+    }
+
+    /**
+     * Begins a {@link LoggerCreatedEvent}.
+     *
+     * @return the event or {@code null} if the events are not available or the event type is not enabled
+     */
+    static Object beginLoggerCreated() {
+        if (!AVAILABLE || !Types.LOGGER_CREATED.isEnabled()) {
+            return null;
+        }
+        final LoggerCreatedEvent event = new LoggerCreatedEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends a {@link LoggerCreatedEvent} and commits it if it is enabled.
+     *
+     * @param event       the event returned by {@link #beginLoggerCreated()}
+     * @param loggerName  the name of the logger
+     * @param loggerClass the type of the logger
+     */
+    static void completeLoggerCreated(final Object event, final String loggerName, final Class<?> loggerClass) {
+        if (event != null) {
+            ((LoggerCreatedEvent) event).complete(loggerName, loggerClass);
+        }
+    }
+
+    /**
+     * Commits a {@link LogDroppedEvent} if the event type is enabled.
+     *
+     * @param loggerName the name of the logger
+     * @param level      the level of the dropped event
+     * @param template   the message template of the dropped event
+     * @param reason     the policy which dropped the event
+     */
+    static void dropped(final String loggerName, final java.util.logging.Level level, final String template,
+            final String reason) {
+        if (AVAILABLE && Types.LOG_DROPPED.isEnabled()) {
+            LogDroppedEvent.dropped(loggerName, level, template, reason);
+        }
+    }
+
+    private static boolean isAvailable() {
+        final Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+        // The binding only reads the module if it was resolved, as it is a static dependency
+        return jfr.isPresent() && FlightRecorderEvents.class.getModule().canRead(jfr.get());
+    }
+
+    /**
+     * Holds the event types, this class is only initialized if the {@code jdk.jfr} module is available.
+     */
+    private static final class Types {
+        static final EventType SLOW_LOG_CALL = EventType.getEventType(SlowLogCallEvent.class);
+        static final EventType LOGGER_CREATED = EventType.getEventType(LoggerCreatedEvent.class);
+        static final EventType LOG_DROPPED = EventType.getEventType(LogDroppedEvent.class);
+    }
+}
@@ -21,7 +21,6 @@ package org.slf4j.impl;
 
 import org.slf4j.ILoggerFactory;
 import org.slf4j.IMarkerFactory;
-import org.slf4j.helpers.BasicMarkerFactory;
 import org.slf4j.spi.MDCAdapter;
 import org.slf4j.spi.SLF4JServiceProvider;
 
@@ -36,7 +35,7 @@ public class JBossSlf4jServiceProvider implements SLF4JServiceProvider {
 
     public JBossSlf4jServiceProvider() {
         this.loggerFactory = new Slf4jLoggerFactory();
-        this.markerFactory = new BasicMarkerFactory();
+        this.markerFactory = new Slf4jMarkerFactory();
         this.mdcAdapter = new Slf4jMDCAdapter();
     }
 
@@ -62,6 +61,9 @@ public class JBossSlf4jServiceProvider implements SLF4JServiceProvider {
 
     @Override
     public void initialize() {
-        // do nothing
+        LoggerManifest.start();
+        if (LoggerMetrics.ENABLED) {
+            Slf4jLoggingMetrics.register();
+        }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for a log event which was not logged because of a sampling policy or because the
+ * asynchronous ring buffer was full.
+ */
+@Name(LogDroppedEvent.NAME)
+@Label("Log Event Dropped")
+@Category({ "Logging", "SLF4J" })
+@Description("A log event which was dropped by a sampling or overflow policy")
+final class LogDroppedEvent extends Event {
+    static final String NAME = "org.jboss.logmanager.slf4j.LogDropped";
+
+    /**
+     * The event was rejected by a {@linkplain Sampling sampling policy}.
+     */
+    static final String SAMPLING = "sampling";
+    /**
+     * The event was below {@code WARN} while the asynchronous ring buffer was full.
+     */
+    static final String ASYNC_BELOW_WARN = "asyncBelowWarn";
+    /**
+     * The event was the oldest in the asynchronous ring buffer and was removed to make room for a newer event.
+     */
+    static final String ASYNC_OLDEST = "asyncOldest";
+
+    @Label("Logger Name")
+    String loggerName;
+
+    @Label("Level")
+    String level;
+
+    @Label("Message Template")
+    String template;
+
+    @Label("Reason")
+    String reason;
+
+    /**
+     * Commits an event if the event type is enabled.
+     *
+     * @param loggerName the name of the logger
+     * @param level      the level of the dropped event
+     * @param template   the message template of the dropped event
+     * @param reason     the policy which dropped the event
+     */
+    static void dropped(final String loggerName, final java.util.logging.Level level, final String template,
+            final String reason) {
+        final LogDroppedEvent event = new LogDroppedEvent();
+        if (event.shouldCommit()) {
+            event.loggerName = loggerName;
+            event.level = level.getName();
+            event.template = template;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for a logger created by the {@link Slf4jLoggerFactory}. The duration covers the creation
+ * of the log manager logger and the adapter.
+ */
+@Name(LoggerCreatedEvent.NAME)
+@Label("Logger Created")
+@Category({ "Logging", "SLF4J" })
+@Description("An SLF4J logger created by the factory")
+final class LoggerCreatedEvent extends Event {
+    static final String NAME = "org.jboss.logmanager.slf4j.LoggerCreated";
+
+    @Label("Logger Name")
+    String loggerName;
+
+    @Label("Logger Class")
+    Class<?> loggerClass;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param loggerName  the name of the logger
+     * @param loggerClass the type of the logger
+     */
+    void complete(final String loggerName, final Class<?> loggerClass) {
+        end();
+        if (shouldCommit()) {
+            this.loggerName = loggerName;
+            this.loggerClass = loggerClass;
+            commit();
+        }
+    }
+}
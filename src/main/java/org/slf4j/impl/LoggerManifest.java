@@ -0,0 +1,142 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.StandardOutputStreams;
+
+/**
+ * Records the names of the loggers created during a run and creates them again, on a background thread, when the next
+ * run starts.
+ * <p>
+ * The manifest is a file with one logger name per line. Only the names of the loggers requested during the run are
+ * written, so a name which is no longer used is dropped from the manifest by the next run.
+ * </p>
+ * <p>
+ * Loggers are not created from the manifest when {@linkplain LoggerRegistry#WEAK weak loggers} are enabled, as the
+ * loggers would be reclaimed before they are used.
+ * </p>
+ */
+final class LoggerManifest {
+
+    private static final String PATH = System.getProperty("org.jboss.logmanager.slf4j.loggerManifest");
+
+    /**
+     * Indicates whether a manifest has been configured.
+     */
+    static final boolean ENABLED = PATH != null && !PATH.isBlank();
+
+    private static final Set<String> NAMES = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    private LoggerManifest() {
+    }
+
+    /**
+     * Records the name of a logger which has been requested. This should only be invoked if the manifest is
+     * {@linkplain #ENABLED enabled}.
+     *
+     * @param name the name of the logger
+     */
+    static void record(final String name) {
+        NAMES.add(name);
+    }
+
+    /**
+     * Creates the loggers listed in the manifest, for the current log context, on a background thread and registers a
+     * shutdown hook which writes the manifest. Only the first invocation has an effect.
+     */
+    static void start() {
+        if (!ENABLED || !STARTED.compareAndSet(false, true)) {
+            return;
+        }
+        final Path path = Paths.get(PATH);
+        if (LoggerRegistry.WEAK) {
+            StandardOutputStreams.printError(
+                    "The loggers in the manifest %s are not created as weak loggers are enabled%n", path);
+        } else {
+            final LogContext logContext = LogContext.getLogContext();
+            final Thread prewarm = new Thread(() -> prewarm(logContext, path), "slf4j-logger-prewarm");
+            prewarm.setDaemon(true);
+            prewarm.start();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> write(path), "slf4j-logger-manifest"));
+    }
+
+    static void prewarm(final LogContext logContext, final Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        final List<String> names = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    names.add(line);
+                }
+            }
+        } catch (IOException e) {
+            StandardOutputStreams.printError(e, "Failed to read the logger manifest %s%n", path);
+            return;
+        }
+        for (String name : names) {
+            Slf4jLoggerFactory.findLogger(logContext, name);
+        }
+    }
+
+    static void write(final Path path) {
+        final Set<String> names = new TreeSet<>(NAMES);
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write to a temporary file first so a partially written manifest is never read
+            final Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (String name : names) {
+                    if (name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+                        continue;
+                    }
+                    writer.write(name);
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            StandardOutputStreams.printError(e, "Failed to write the logger manifest %s%n", path);
+        }
+    }
+}
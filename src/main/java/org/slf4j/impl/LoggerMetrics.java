@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the SLF4J loggers with a name.
+ * <p>
+ * Metrics are enabled with the {@code org.jboss.logmanager.slf4j.metrics} system property. When disabled the checks
+ * are removed by the JIT as {@link #ENABLED} is a constant. The time spent creating and dispatching records is measured
+ * for one in {@code org.jboss.logmanager.slf4j.metricsTimingSample} enabled calls, or not at all if the property is not
+ * set. The counters are {@link LongAdder}s so concurrent updates do not contend.
+ * </p>
+ * <p>
+ * The metrics of a name are shared by the loggers with the name and only weakly referenced by the index of all the
+ * metrics, so they are released with the last logger with the name. The management classes are only used by the
+ * {@link Slf4jLoggingMetrics}, which is only loaded when the metrics are enabled.
+ * </p>
+ */
+final class LoggerMetrics {
+    /**
+     * Indicates whether the loggers update the metrics.
+     */
+    static final boolean ENABLED = Boolean.getBoolean("org.jboss.logmanager.slf4j.metrics");
+
+    private static final int TIMING_SAMPLE = Integer.getInteger("org.jboss.logmanager.slf4j.metricsTimingSample", 0);
+    private static final ConcurrentMap<String, MetricsReference> METRICS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<LoggerMetrics> QUEUE = new ReferenceQueue<>();
+
+    final String name;
+    // The counters for each level index
+    final LongAdder[] rejected = adders();
+    final LongAdder[] enabled = adders();
+    final LongAdder[] emitted = adders();
+    final LongAdder timed = new LongAdder();
+    final LongAdder createNanos = new LongAdder();
+    final LongAdder dispatchNanos = new LongAdder();
+
+    LoggerMetrics(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the metrics for the logger name.
+     *
+     * @param name the logger name
+     *
+     * @return the metrics or {@code null} if metrics are not enabled
+     */
+    static LoggerMetrics forLogger(final String name) {
+        if (!ENABLED) {
+            return null;
+        }
+        // Look up first, compute locks the bin even if the metrics exist
+        final LoggerMetrics metrics = get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        expunge();
+        final LoggerMetrics[] result = new LoggerMetrics[1];
+        METRICS.compute(name, (key, reference) -> {
+            result[0] = reference == null ? null : reference.get();
+            if (result[0] != null) {
+                return reference;
+            }
+            result[0] = new LoggerMetrics(key);
+            return new MetricsReference(result[0]);
+        });
+        return result[0];
+    }
+
+    /**
+     * Returns the metrics for the logger name if a logger with the name is referenced.
+     *
+     * @param name the logger name
+     *
+     * @return the metrics or {@code null} if there are none
+     */
+    static LoggerMetrics get(final String name) {
+        final MetricsReference reference = METRICS.get(name);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Returns the metrics of all the loggers.
+     *
+     * @return the metrics
+     */
+    static Collection<LoggerMetrics> all() {
+        expunge();
+        final List<LoggerMetrics> result = new ArrayList<>(METRICS.size());
+        for (MetricsReference reference : METRICS.values()) {
+            final LoggerMetrics metrics = reference.get();
+            if (metrics != null) {
+                result.add(metrics);
+            }
+        }
+        return result;
+    }
+
+    private static void expunge() {
+        MetricsReference reference;
+        while ((reference = (MetricsReference) QUEUE.poll()) != null) {
+            METRICS.remove(reference.name, reference);
+        }
+    }
+
+    /**
+     * Indicates whether the current call should be timed.
+     *
+     * @return {@code true} if the call should be timed
+     */
+    static boolean sampleTiming() {
+        return TIMING_SAMPLE > 0 && ThreadLocalRandom.current().nextInt(TIMING_SAMPLE) == 0;
+    }
+
+    void timing(final long createNanos, final long dispatchNanos) {
+        timed.increment();
+        this.createNanos.add(createNanos);
+        this.dispatchNanos.add(dispatchNanos);
+    }
+
+    void reset() {
+        for (int i = 0; i <= MarkerLevels.ERROR; i++) {
+            rejected[i].reset();
+            enabled[i].reset();
+            emitted[i].reset();
+        }
+        timed.reset();
+        createNanos.reset();
+        dispatchNanos.reset();
+    }
+
+    private static final class MetricsReference extends WeakReference<LoggerMetrics> {
+        private final String name;
+
+        MetricsReference(final LoggerMetrics metrics) {
+            super(metrics, QUEUE);
+            this.name = metrics.name;
+        }
+    }
+
+    private static LongAdder[] adders() {
+        final LongAdder[] result = new LongAdder[MarkerLevels.ERROR + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.logmanager.LogContext;
+
+/**
+ * The loggers created for a {@link LogContext}, by name.
+ * <p>
+ * By default the loggers are strongly referenced and live as long as the log context. If weak loggers are
+ * {@linkplain #WEAK enabled} the registry holds a single weak reference for each name, so a logger which is no longer
+ * referenced can be reclaimed with the log manager logger it wraps. The entry is removed the next time the registry is
+ * used. A logger requested again after it was reclaimed is created again, with the current configuration of the log
+ * manager logger.
+ * </p>
+ */
+final class LoggerRegistry {
+
+    /**
+     * Indicates whether the loggers are weakly referenced.
+     */
+    static final boolean WEAK = Boolean.getBoolean("org.jboss.logmanager.slf4j.weakLoggers");
+
+    // The estimated size of a map entry and its share of the table, assuming compressed references
+    private static final int MAP_ENTRY_BYTES = 40;
+    // The estimated size of a WeakEntry
+    private static final int WEAK_ENTRY_BYTES = 40;
+    // The estimated size of the SLF4J logger and the log manager logger it wraps, the name is shared with the log manager
+    private static final int LOGGER_BYTES = 64;
+
+    private static final ReentrantLock REGISTRIES_LOCK = new ReentrantLock();
+    // Guarded by REGISTRIES_LOCK
+    private static final Set<LoggerRegistry> REGISTRIES = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final String name;
+    private final ConcurrentMap<String, AbstractSlf4jLogger> loggers;
+    private final ConcurrentMap<String, WeakEntry> weakLoggers;
+    private final ReferenceQueue<AbstractSlf4jLogger> queue;
+
+    private LoggerRegistry(final String name) {
+        this.name = name;
+        if (WEAK) {
+            loggers = null;
+            weakLoggers = new ConcurrentHashMap<>();
+            queue = new ReferenceQueue<>();
+        } else {
+            loggers = new ConcurrentHashMap<>();
+            weakLoggers = null;
+            queue = null;
+        }
+    }
+
+    /**
+     * Creates the registry for a log context.
+     *
+     * @param logContext the log context
+     *
+     * @return the new registry
+     */
+    static LoggerRegistry create(final LogContext logContext) {
+        final LoggerRegistry registry = new LoggerRegistry(
+                "LogContext@" + Integer.toHexString(System.identityHashCode(logContext)));
+        REGISTRIES_LOCK.lock();
+        try {
+            REGISTRIES.add(registry);
+        } finally {
+            REGISTRIES_LOCK.unlock();
+        }
+        return registry;
+    }
+
+    /**
+     * Returns the registries of the log contexts which are still reachable.
+     *
+     * @return the registries
+     */
+    static List<LoggerRegistry> all() {
+        REGISTRIES_LOCK.lock();
+        try {
+            return new ArrayList<>(REGISTRIES);
+        } finally {
+            REGISTRIES_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Returns the name which identifies the log context of the registry.
+     *
+     * @return the name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the logger with the name.
+     *
+     * @param name the logger name
+     *
+     * @return the logger or {@code null} if there is no logger with the name
+     */
+    AbstractSlf4jLogger get(final String name) {
+        if (!WEAK) {
+            return loggers.get(name);
+        }
+        expunge();
+        final WeakEntry entry = weakLoggers.get(name);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * Adds the logger unless there already is a logger with the name.
+     *
+     * @param name   the name the logger was requested with
+     * @param logger the logger
+     *
+     * @return the logger which was already registered or {@code null} if the logger was added
+     */
+    AbstractSlf4jLogger putIfAbsent(final String name, final AbstractSlf4jLogger logger) {
+        // Share the name with the log manager logger rather than retaining the string the caller passed
+        final String loggerName = logger.getName();
+        final String key = loggerName.equals(name) ? loggerName : name;
+        if (!WEAK) {
+            return loggers.putIfAbsent(key, logger);
+        }
+        expunge();
+        final WeakEntry entry = new WeakEntry(key, logger, queue);
+        for (;;) {
+            final WeakEntry existing = weakLoggers.putIfAbsent(key, entry);
+            if (existing == null) {
+                return null;
+            }
+            final AbstractSlf4jLogger appearingLogger = existing.get();
+            if (appearingLogger != null) {
+                return appearingLogger;
+            }
+            if (weakLoggers.replace(key, existing, entry)) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the loggers in the registry.
+     *
+     * @return the loggers
+     */
+    Collection<AbstractSlf4jLogger> loggers() {
+        if (!WEAK) {
+            return loggers.values();
+        }
+        expunge();
+        final List<AbstractSlf4jLogger> result = new ArrayList<>(weakLoggers.size());
+        for (WeakEntry entry : weakLoggers.values()) {
+            final AbstractSlf4jLogger logger = entry.get();
+            if (logger != null) {
+                result.add(logger);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of loggers in the registry. With weak loggers this includes loggers which have been reclaimed
+     * since the registry was last used.
+     *
+     * @return the number of loggers
+     */
+    int size() {
+        if (!WEAK) {
+            return loggers.size();
+        }
+        expunge();
+        return weakLoggers.size();
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the registry, including the loggers it keeps reachable. The log
+     * manager loggers are only included if they are kept reachable by the registry.
+     *
+     * @return the estimated size in bytes
+     */
+    long estimateHeapBytes() {
+        if (!WEAK) {
+            return (long) loggers.size() * (MAP_ENTRY_BYTES + LOGGER_BYTES);
+        }
+        return (long) size() * (MAP_ENTRY_BYTES + WEAK_ENTRY_BYTES);
+    }
+
+    private void expunge() {
+        Reference<? extends AbstractSlf4jLogger> reference;
+        while ((reference = queue.poll()) != null) {
+            final WeakEntry entry = (WeakEntry) reference;
+            weakLoggers.remove(entry.name, entry);
+        }
+    }
+
+    private static final class WeakEntry extends WeakReference<AbstractSlf4jLogger> {
+        private final String name;
+
+        private WeakEntry(final String name, final AbstractSlf4jLogger logger,
+                final ReferenceQueue<AbstractSlf4jLogger> queue) {
+            super(logger, queue);
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable copy-on-write array map used as the storage of the {@link Slf4jMDCProvider}.
+ * <p>
+ * Each modification returns a new map, so a reference to a map is a snapshot which never changes. Lookups are a linear
+ * scan of the key hashes, which is fast for the small number of entries typical of an MDC.
+ * </p>
+ */
+final class MDCMap extends AbstractMap<String, Object> {
+    static final MDCMap EMPTY = new MDCMap(new int[0], new String[0], new Object[0]);
+
+    private final int[] hashes;
+    private final String[] keys;
+    private final Object[] values;
+    private Set<Entry<String, Object>> entrySet;
+
+    private MDCMap(final int[] hashes, final String[] keys, final Object[] values) {
+        this.hashes = hashes;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Creates a map with the entries of the given map. Entries with a {@code null} key or value are ignored.
+     *
+     * @param map       the entries to copy
+     * @param toStrings {@code true} if the values should be converted to strings
+     *
+     * @return the new map
+     */
+    static MDCMap of(final Map<?, ?> map, final boolean toStrings) {
+        if (map instanceof MDCMap && !toStrings) {
+            return (MDCMap) map;
+        }
+        final int size = map.size();
+        final int[] hashes = new int[size];
+        final String[] keys = new String[size];
+        final Object[] values = new Object[size];
+        int count = 0;
+        for (Entry<?, ?> entry : map.entrySet()) {
+            final Object key = entry.getKey();
+            final Object value = entry.getValue();
+            if (key != null && value != null && count < size) {
+                final String k = key.toString();
+                keys[count] = k;
+                hashes[count] = k.hashCode();
+                values[count] = toStrings ? value.toString() : value;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        if (count < size) {
+            return new MDCMap(Arrays.copyOf(hashes, count), Arrays.copyOf(keys, count), Arrays.copyOf(values, count));
+        }
+        return new MDCMap(hashes, keys, values);
+    }
+
+    /**
+     * Returns a map with the key set to the value.
+     *
+     * @param key   the key
+     * @param value the value
+     *
+     * @return the new map or this map if the value is already set
+     */
+    MDCMap with(final String key, final Object value) {
+        final int hash = key.hashCode();
+        final int index = indexOf(key, hash);
+        if (index >= 0) {
+            if (values[index] == value) {
+                return this;
+            }
+            final Object[] newValues = values.clone();
+            newValues[index] = value;
+            return new MDCMap(hashes, keys, newValues);
+        }
+        final int size = keys.length;
+        final int[] newHashes = Arrays.copyOf(hashes, size + 1);
+        final String[] newKeys = Arrays.copyOf(keys, size + 1);
+        final Object[] newValues = Arrays.copyOf(values, size + 1);
+        newHashes[size] = hash;
+        newKeys[size] = key;
+        newValues[size] = value;
+        return new MDCMap(newHashes, newKeys, newValues);
+    }
+
+    /**
+     * Returns a map with the entries of the given map added to this map.
+     *
+     * @param other the entries to add
+     *
+     * @return the new map
+     */
+    MDCMap withAll(final MDCMap other) {
+        if (isEmpty()) {
+            return other;
+        }
+        MDCMap result = this;
+        for (int i = 0; i < other.keys.length; i++) {
+            result = result.with(other.keys[i], other.values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map without the key.
+     *
+     * @param key the key
+     *
+     * @return the new map or this map if the key is not present
+     */
+    MDCMap without(final String key) {
+        final int index = indexOf(key, key.hashCode());
+        if (index < 0) {
+            return this;
+        }
+        final int size = keys.length;
+        if (size == 1) {
+            return EMPTY;
+        }
+        final int[] newHashes = new int[size - 1];
+        final String[] newKeys = new String[size - 1];
+        final Object[] newValues = new Object[size - 1];
+        System.arraycopy(hashes, 0, newHashes, 0, index);
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        final int tail = size - index - 1;
+        System.arraycopy(hashes, index + 1, newHashes, index, tail);
+        System.arraycopy(keys, index + 1, newKeys, index, tail);
+        System.arraycopy(values, index + 1, newValues, index, tail);
+        return new MDCMap(newHashes, newKeys, newValues);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (key instanceof String) {
+            final int index = indexOf((String) key, key.hashCode());
+            return index < 0 ? null : values[index];
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && indexOf((String) key, key.hashCode()) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super String, ? super Object> action) {
+        final String[] keys = this.keys;
+        final Object[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            this.entrySet = entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(final String key, final int hash) {
+        final int[] hashes = this.hashes;
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] == hash && key.equals(keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < keys.length;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (index >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    final int i = index++;
+                    return new SimpleImmutableEntry<>(keys[i], values[i]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * The MDC bound to a scope with {@link org.jboss.logmanager.slf4j.ScopedMDC}.
+ * <p>
+ * The bound map is shared by every thread which runs in the scope. A thread which changes the MDC while in the scope
+ * gets its own map, which is held by a thread local of the scope and discarded when the scope ends. Until a thread
+ * changes the MDC reading it does not require any per-thread state. The thread local does not hold the threads, and
+ * its entries are released with the scope or the thread.
+ * </p>
+ */
+final class MDCScope {
+    private final MDCMap map;
+    private volatile ThreadLocal<MDCMap> changes;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MDCScope, ThreadLocal> CHANGES = AtomicReferenceFieldUpdater
+            .newUpdater(MDCScope.class, ThreadLocal.class, "changes");
+
+    MDCScope(final MDCMap map) {
+        this.map = map;
+    }
+
+    MDCMap get() {
+        final ThreadLocal<MDCMap> changes = this.changes;
+        if (changes != null) {
+            final MDCMap changed = changes.get();
+            if (changed != null) {
+                return changed;
+            }
+        }
+        return map;
+    }
+
+    void set(final MDCMap map) {
+        ThreadLocal<MDCMap> changes = this.changes;
+        if (changes == null) {
+            final ThreadLocal<MDCMap> newChanges = new ThreadLocal<>();
+            changes = CHANGES.compareAndSet(this, null, newChanges) ? newChanges : this.changes;
+        }
+        changes.set(map);
+    }
+
+    /**
+     * Discards the changes the current thread made to the MDC while in the scope. This is invoked by the thread which
+     * bound the scope when it ends.
+     */
+    void exit() {
+        final ThreadLocal<MDCMap> changes = this.changes;
+        if (changes != null) {
+            changes.remove();
+        }
+    }
+}
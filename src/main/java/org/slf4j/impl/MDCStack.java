@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * An immutable stack of values stored in the {@link org.jboss.logmanager.MDC} for the SLF4J keyed deque API.
+ * <p>
+ * Each push creates a new node, so a copy of the MDC captured by a log record is never affected by later pushes or
+ * pops. The {@linkplain #toString() string representation} is used by formatters and lists the values with the most
+ * recently pushed value first.
+ * </p>
+ */
+final class MDCStack implements Serializable {
+    private static final long serialVersionUID = 5315207880616578343L;
+
+    private final String value;
+    private final MDCStack next;
+    private final int size;
+
+    private MDCStack(final String value, final MDCStack next) {
+        this.value = value;
+        this.next = next;
+        this.size = next == null ? 1 : next.size + 1;
+    }
+
+    /**
+     * Creates a new stack with the value on top of the given stack.
+     *
+     * @param stack the current stack or {@code null} if there is none
+     * @param value the value to push
+     *
+     * @return the new stack
+     */
+    static MDCStack push(final MDCStack stack, final String value) {
+        return new MDCStack(value, stack);
+    }
+
+    /**
+     * Returns the most recently pushed value.
+     *
+     * @return the top value
+     */
+    String peek() {
+        return value;
+    }
+
+    /**
+     * Returns the stack without the top value.
+     *
+     * @return the remaining stack or {@code null} if this stack only held one value
+     */
+    MDCStack pop() {
+        return next;
+    }
+
+    /**
+     * Copies the values into a new deque with the most recently pushed value at the head.
+     *
+     * @return a new deque
+     */
+    Deque<String> toDeque() {
+        final Deque<String> result = new ArrayDeque<>(size);
+        for (MDCStack stack = this; stack != null; stack = stack.next) {
+            result.addLast(stack.value);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (MDCStack stack = this; stack != null; stack = stack.next) {
+            sb.append(stack.value);
+            if (stack.next != null) {
+                sb.append(", ");
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jboss.logmanager.StandardOutputStreams;
+import org.slf4j.Marker;
+
+/**
+ * The marker level policy. A policy entry enables events which contain a marker at, or above, the configured level even
+ * if the logger is not enabled for the level.
+ * <p>
+ * The policy is configured with the {@code org.jboss.logmanager.slf4j.markerLevels} system property. The value is a
+ * comma separated list of {@code marker=level} or {@code marker@category=level} entries. An entry without a category
+ * applies to all loggers. An entry with a category applies to the logger with the category name and its descendants.
+ * The most specific category wins. For example {@code AUDIT=INFO,SQL@org.example.dao=TRACE}.
+ * </p>
+ * <p>
+ * Each marker name in the policy is assigned an index. The policy is resolved for each logger into a bit mask per
+ * level, where a set bit indicates the marker with that index is enabled at the level. At most {@value #MAX_MARKERS}
+ * marker names are supported.
+ * </p>
+ */
+final class MarkerLevels {
+    static final int TRACE = 0;
+    static final int DEBUG = 1;
+    static final int INFO = 2;
+    static final int WARN = 3;
+    static final int ERROR = 4;
+
+    static final int MAX_MARKERS = Long.SIZE;
+
+    private static final MarkerLevels INSTANCE = parse(System.getProperty("org.jboss.logmanager.slf4j.markerLevels"));
+
+    private final String[] markerNames;
+    // The Slf4jMarker identifiers of the marker names
+    private final int[] markerIds;
+    // The entries for each marker index, keyed by the category
+    private final List<Map<String, Integer>> entries;
+
+    private MarkerLevels(final String[] markerNames, final List<Map<String, Integer>> entries) {
+        this.markerNames = markerNames;
+        this.entries = entries;
+        markerIds = new int[markerNames.length];
+        for (int i = 0; i < markerNames.length; i++) {
+            markerIds[i] = Slf4jMarker.idOf(markerNames[i]);
+        }
+    }
+
+    /**
+     * Returns the policy configured by the system property.
+     *
+     * @return the configured policy
+     */
+    static MarkerLevels getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Parses the policy.
+     *
+     * @param value the value to parse, may be {@code null}
+     *
+     * @return the policy
+     */
+    static MarkerLevels parse(final String value) {
+        final List<String> markerNames = new ArrayList<>();
+        final List<Map<String, Integer>> entries = new ArrayList<>();
+        if (value != null) {
+            for (String entry : value.split(",")) {
+                entry = entry.trim();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                final int eq = entry.lastIndexOf('=');
+                final int level = eq > 0 ? levelIndex(entry.substring(eq + 1).trim()) : -1;
+                if (level < 0) {
+                    StandardOutputStreams.printError("Invalid marker level entry \"%s\"%n", entry);
+                    continue;
+                }
+                final String key = entry.substring(0, eq).trim();
+                final int at = key.indexOf('@');
+                final String markerName = at < 0 ? key : key.substring(0, at).trim();
+                final String category = at < 0 ? "" : key.substring(at + 1).trim();
+                int index = markerNames.indexOf(markerName);
+                if (index < 0) {
+                    if (markerNames.size() == MAX_MARKERS) {
+                        StandardOutputStreams.printError(
+                                "Ignoring marker level entry \"%s\", at most %d markers are supported%n",
+                                entry, MAX_MARKERS);
+                        continue;
+                    }
+                    index = markerNames.size();
+                    markerNames.add(markerName);
+                    entries.add(new LinkedHashMap<>());
+                }
+                entries.get(index).put(category, level);
+            }
+        }
+        return new MarkerLevels(markerNames.toArray(new String[0]), entries);
+    }
+
+    /**
+     * Resolves the policy for the logger.
+     *
+     * @param loggerName the name of the logger
+     *
+     * @return the bit mask of enabled markers for each level or {@code null} if the policy does not apply to the logger
+     */
+    long[] resolve(final String loggerName) {
+        long[] result = null;
+        for (int i = 0; i < markerNames.length; i++) {
+            int level = -1;
+            int length = -1;
+            for (Map.Entry<String, Integer> entry : entries.get(i).entrySet()) {
+                final String category = entry.getKey();
+                if (category.length() > length && isCategory(loggerName, category)) {
+                    level = entry.getValue();
+                    length = category.length();
+                }
+            }
+            if (level >= 0) {
+                if (result == null) {
+                    result = new long[ERROR + 1];
+                }
+                for (int l = level; l <= ERROR; l++) {
+                    result[l] |= 1L << i;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the marker, or any of its references, is enabled in the bit mask.
+     *
+     * @param marker the marker to check
+     * @param mask   the bit mask for the level
+     *
+     * @return {@code true} if the marker is enabled, otherwise {@code false}
+     */
+    boolean isEnabled(final Marker marker, final long mask) {
+        final Slf4jMarker slf4jMarker = marker instanceof Slf4jMarker ? (Slf4jMarker) marker : null;
+        long remaining = mask;
+        while (remaining != 0) {
+            final int index = Long.numberOfTrailingZeros(remaining);
+            if (slf4jMarker == null ? marker.contains(markerNames[index])
+                    : slf4jMarker.contains(markerIds[index], markerNames[index])) {
+                return true;
+            }
+            remaining &= remaining - 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the level used for the bit masks.
+     *
+     * @param level the level
+     *
+     * @return the index for the level
+     */
+    static int levelIndex(final java.util.logging.Level level) {
+        final int value = level.intValue();
+        if (value >= org.jboss.logmanager.Level.ERROR.intValue()) {
+            return ERROR;
+        } else if (value >= org.jboss.logmanager.Level.WARN.intValue()) {
+            return WARN;
+        } else if (value >= org.jboss.logmanager.Level.INFO.intValue()) {
+            return INFO;
+        } else if (value >= org.jboss.logmanager.Level.DEBUG.intValue()) {
+            return DEBUG;
+        }
+        return TRACE;
+    }
+
+    static int levelIndex(final String name) {
+        switch (name.toUpperCase(Locale.ROOT)) {
+            case "TRACE":
+                return TRACE;
+            case "DEBUG":
+                return DEBUG;
+            case "INFO":
+                return INFO;
+            case "WARN":
+                return WARN;
+            case "ERROR":
+                return ERROR;
+            default:
+                return -1;
+        }
+    }
+
+    static boolean isCategory(final String loggerName, final String category) {
+        return category.isEmpty() || loggerName.equals(category)
+                || (loggerName.startsWith(category) && loggerName.charAt(category.length()) == '.');
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.jboss.logmanager.StandardOutputStreams;
+
+/**
+ * A message template parsed once into the literal text between its {@code {}} placeholders. The output is identical to
+ * {@link org.slf4j.helpers.MessageFormatter#arrayFormat(String, Object[])}, including the handling of escaped
+ * placeholders and the rendering of arrays.
+ * <p>
+ * The {@code MessageFormatter} only resolves escapes while there are arguments left, the text after the placeholder
+ * which consumed the last argument is appended as is. A template therefore keeps, for each placeholder, the literal text
+ * before it with the escapes resolved and the position of the raw text after it. The text after the last placeholder is
+ * also kept with the escapes resolved for calls with more arguments than placeholders.
+ * </p>
+ * <p>
+ * Parsed templates are kept in a direct-mapped cache indexed by the identity of the template string, so constant
+ * templates are found without comparing their contents. A template which maps to an occupied slot replaces the previous
+ * template, which bounds the cache when templates are built dynamically. The size of the cache is set with the
+ * {@code org.jboss.logmanager.slf4j.templateCacheSize} system property.
+ * </p>
+ */
+final class MessageTemplate {
+    private static final MessageTemplate[] CACHE = new MessageTemplate[cacheSize()];
+    private static final int MASK = CACHE.length - 1;
+    // Buffers which grew larger than this are not kept for the next message
+    private static final int MAX_BUFFER = 4096;
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    /**
+     * The primitive arguments are {@code long} values.
+     */
+    static final int LONG = 0;
+    /**
+     * The primitive arguments are the raw bits of {@code double} values.
+     */
+    static final int DOUBLE = 1;
+    /**
+     * The primitive arguments are {@code boolean} values, {@code 1} for {@code true}.
+     */
+    static final int BOOLEAN = 2;
+
+    private final String pattern;
+    // The literal text before each placeholder
+    private final String[] literals;
+    // The position of the raw text after each placeholder
+    private final int[] rawTails;
+    // The text after the last placeholder with the escapes resolved
+    private final String tail;
+
+    private MessageTemplate(final String pattern, final String[] literals, final int[] rawTails, final String tail) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.rawTails = rawTails;
+        this.tail = tail;
+    }
+
+    private static int cacheSize() {
+        final int size = Integer.getInteger("org.jboss.logmanager.slf4j.templateCacheSize", 1024);
+        return size <= 1 ? 1 : Integer.highestOneBit(Math.min(size, 1 << 20) - 1) << 1;
+    }
+
+    /**
+     * Formats the message as {@link org.slf4j.helpers.MessageFormatter#arrayFormat(String, Object[])} would.
+     *
+     * @param pattern   the message template
+     * @param arguments the arguments, may be {@code null}
+     * @param count     the number of arguments to use, e.g. to exclude a trailing throwable
+     *
+     * @return the formatted message
+     */
+    static String format(final String pattern, final Object[] arguments, final int count) {
+        if (pattern == null || arguments == null || count == 0) {
+            return pattern;
+        }
+        return parse(pattern).render(arguments, count);
+    }
+
+    /**
+     * Formats the message with one or two primitive arguments of the same kind, as
+     * {@link org.slf4j.helpers.MessageFormatter} would format their boxed values.
+     *
+     * @param pattern the message template
+     * @param count   the number of arguments, {@code 1} or {@code 2}
+     * @param kind    the kind of the arguments, {@link #LONG}, {@link #DOUBLE} or {@link #BOOLEAN}
+     * @param arg1    the first argument
+     * @param arg2    the second argument, ignored if {@code count} is {@code 1}
+     *
+     * @return the formatted message
+     */
+    static String format(final String pattern, final int count, final int kind, final long arg1, final long arg2) {
+        if (pattern == null) {
+            return null;
+        }
+        return parse(pattern).render(count, kind, arg1, arg2);
+    }
+
+    /**
+     * Appends the message, formatted as {@link org.slf4j.helpers.MessageFormatter#arrayFormat(String, Object[])} would,
+     * to the target.
+     *
+     * @param target    the target
+     * @param pattern   the message template
+     * @param arguments the arguments, may be {@code null}
+     * @param count     the number of arguments to use, e.g. to exclude a trailing throwable
+     */
+    static void appendTo(final StringBuilder target, final String pattern, final Object[] arguments, final int count) {
+        if (pattern == null || arguments == null || count == 0) {
+            target.append(pattern);
+        } else {
+            parse(pattern).append(target, arguments, count);
+        }
+    }
+
+    /**
+     * Returns the parsed template from the cache, parsing it if it is not cached.
+     *
+     * @param pattern the template
+     *
+     * @return the parsed template
+     */
+    static MessageTemplate parse(final String pattern) {
+        final int index = System.identityHashCode(pattern) & MASK;
+        final MessageTemplate cached = CACHE[index];
+        if (cached != null && cached.pattern == pattern) {
+            return cached;
+        }
+        // Racy publication is safe, the fields are final
+        final MessageTemplate template = compile(pattern);
+        CACHE[index] = template;
+        return template;
+    }
+
+    /**
+     * Returns the number of placeholders of the template.
+     *
+     * @return the number of placeholders
+     */
+    int placeholders() {
+        return literals.length;
+    }
+
+    private static MessageTemplate compile(final String pattern) {
+        // The same scan as MessageFormatter.arrayFormat(), without a limit on the number of arguments
+        String[] literals = new String[4];
+        int[] rawTails = new int[4];
+        int count = 0;
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        int j;
+        while ((j = pattern.indexOf("{}", i)) != -1) {
+            if (j > 0 && pattern.charAt(j - 1) == '\\') {
+                if (j < 2 || pattern.charAt(j - 2) != '\\') {
+                    // An escaped placeholder does not consume an argument
+                    literal.append(pattern, i, j - 1).append('{');
+                    i = j + 1;
+                    continue;
+                }
+                // The escape is itself escaped, one backslash is kept
+                literal.append(pattern, i, j - 1);
+            } else {
+                literal.append(pattern, i, j);
+            }
+            i = j + 2;
+            if (count == literals.length) {
+                literals = Arrays.copyOf(literals, count << 1);
+                rawTails = Arrays.copyOf(rawTails, count << 1);
+            }
+            literals[count] = literal.toString();
+            rawTails[count] = i;
+            count++;
+            literal.setLength(0);
+        }
+        final String tail = i == 0 ? pattern : literal.append(pattern, i, pattern.length()).toString();
+        return new MessageTemplate(pattern, Arrays.copyOf(literals, count),
+                Arrays.copyOf(rawTails, count), tail);
+    }
+
+    private String render(final Object[] arguments, final int count) {
+        final Buffer buffer = BUFFER.get();
+        if (buffer.inUse) {
+            // An argument logged a message while it was being formatted
+            return render(new StringBuilder(pattern.length() + 50), arguments, count);
+        }
+        buffer.inUse = true;
+        try {
+            final StringBuilder sb = buffer.sb;
+            sb.setLength(0);
+            final String result = render(sb, arguments, count);
+            if (sb.capacity() > MAX_BUFFER) {
+                buffer.sb = new StringBuilder(256);
+            }
+            return result;
+        } finally {
+            buffer.inUse = false;
+        }
+    }
+
+    private String render(final int count, final int kind, final long arg1, final long arg2) {
+        // No other code runs while primitives are appended, so the buffer can only be in use by an enclosing call
+        final Buffer buffer = BUFFER.get();
+        final StringBuilder sb = buffer.inUse ? new StringBuilder(pattern.length() + 50) : buffer.sb;
+        sb.setLength(0);
+        final String[] literals = this.literals;
+        final int placeholders = literals.length;
+        final int used = Math.min(count, placeholders);
+        for (int p = 0; p < used; p++) {
+            sb.append(literals[p]);
+            appendPrimitive(sb, kind, p == 0 ? arg1 : arg2);
+        }
+        if (count > placeholders) {
+            sb.append(tail);
+        } else {
+            sb.append(pattern, rawTails[count - 1], pattern.length());
+        }
+        return sb.toString();
+    }
+
+    private static void appendPrimitive(final StringBuilder sb, final int kind, final long value) {
+        switch (kind) {
+            case DOUBLE:
+                sb.append(Double.longBitsToDouble(value));
+                break;
+            case BOOLEAN:
+                sb.append(value != 0L);
+                break;
+            default:
+                sb.append(value);
+                break;
+        }
+    }
+
+    private String render(final StringBuilder sb, final Object[] arguments, final int count) {
+        append(sb, arguments, count);
+        return sb.toString();
+    }
+
+    private void append(final StringBuilder sb, final Object[] arguments, final int count) {
+        final String[] literals = this.literals;
+        final int placeholders = literals.length;
+        final int used = Math.min(count, placeholders);
+        for (int p = 0; p < used; p++) {
+            sb.append(literals[p]);
+            appendArgument(sb, arguments[p], null);
+        }
+        if (count > placeholders) {
+            sb.append(tail);
+        } else {
+            sb.append(pattern, rawTails[count - 1], pattern.length());
+        }
+    }
+
+    private static void appendArgument(final StringBuilder sb, final Object o, Map<Object[], Object> seen) {
+        if (o == null) {
+            sb.append("null");
+        } else if (!o.getClass().isArray()) {
+            try {
+                sb.append(o.toString());
+            } catch (Throwable t) {
+                StandardOutputStreams.printError(t, "Failed toString() invocation on an object of type [%s]%n",
+                        o.getClass().getName());
+                sb.append("[FAILED toString()]");
+            }
+        } else if (o instanceof Object[]) {
+            final Object[] array = (Object[]) o;
+            sb.append('[');
+            if (seen == null) {
+                seen = new IdentityHashMap<>();
+            }
+            if (seen.containsKey(array)) {
+                sb.append("...");
+            } else {
+                seen.put(array, null);
+                for (int i = 0; i < array.length; i++) {
+                    if (i > 0) {
+                        sb.append(", ");
+                    }
+                    appendArgument(sb, array[i], seen);
+                }
+                // Allow repeats in siblings
+                seen.remove(array);
+            }
+            sb.append(']');
+        } else {
+            appendPrimitiveArray(sb, o);
+        }
+    }
+
+    private static void appendPrimitiveArray(final StringBuilder sb, final Object o) {
+        sb.append('[');
+        if (o instanceof int[]) {
+            final int[] a = (int[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        } else if (o instanceof long[]) {
+            final long[] a = (long[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        } else if (o instanceof byte[]) {
+            final byte[] a = (byte[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        } else if (o instanceof char[]) {
+            final char[] a = (char[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        } else if (o instanceof short[]) {
+            final short[] a = (short[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        } else if (o instanceof boolean[]) {
+            final boolean[] a = (boolean[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        } else if (o instanceof float[]) {
+            final float[] a = (float[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        } else {
+            final double[] a = (double[]) o;
+            for (int i = 0; i < a.length; i++) {
+                (i > 0 ? sb.append(", ") : sb).append(a[i]);
+            }
+        }
+        sb.append(']');
+    }
+
+    private static final class Buffer {
+        private StringBuilder sb = new StringBuilder(256);
+        private boolean inUse;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+/**
+ * Stands in for an exception which has already been logged with its stack trace. It has no stack trace of its own, so a
+ * formatter only writes a single line.
+ */
+final class RepeatedThrowable extends Throwable {
+    private static final long serialVersionUID = -4619837546620932870L;
+
+    private final String original;
+
+    RepeatedThrowable(final Throwable original, final String id, final long repeats) {
+        super("same as #" + id + ", " + repeats + (repeats == 1L ? " repeat" : " repeats"), null, false, false);
+        this.original = original.toString();
+    }
+
+    @Override
+    public String toString() {
+        return original + " (" + getMessage() + ")";
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.NDC;
+
+/**
+ * A log record which is reused by the thread which created it, for the garbage-free mode.
+ * <p>
+ * Each thread has one record. It is acquired for a log call and released once the handlers return. A call made while
+ * the record is in use, e.g. by the {@code toString()} of an argument or by a handler, creates a new record instead. The
+ * arguments of calls with one or two arguments are stored in arrays owned by the record.
+ * </p>
+ * <p>
+ * The record does not capture an {@link Instant}, the time is kept in milliseconds and the instant is only created if it
+ * is requested. If a handler copies the MDC into the record or asks for the caller, the record is replaced when it is
+ * released, as the log manager does not allow either to be reset.
+ * </p>
+ */
+final class ReusableLogRecord extends Slf4jLogRecord {
+    private static final long serialVersionUID = -6402151318410932436L;
+
+    /**
+     * If {@code true} records are reused. This requires the handlers to be synchronous and to not retain the records, so
+     * the mode is not used with the {@linkplain AsyncDispatcher asynchronous mode}.
+     */
+    static final boolean ENABLED = Boolean.getBoolean("org.jboss.logmanager.slf4j.garbageFree")
+            && !Boolean.getBoolean("org.jboss.logmanager.slf4j.async");
+
+    private static final String LOGGER_CLASS_NAME = AbstractSlf4jLogger.class.getName();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<ReusableLogRecord> RECORDS = ThreadLocal.withInitial(ReusableLogRecord::new);
+
+    private final transient Object[] arguments1 = new Object[1];
+    private final transient Object[] arguments2 = new Object[2];
+    private transient boolean inUse;
+    // The MDC was copied or the caller was calculated, neither can be reset
+    private transient boolean dirty;
+    private transient long millis;
+    private transient Instant instant;
+
+    private ReusableLogRecord() {
+        super(org.jboss.logmanager.Level.INFO, null, LOGGER_CLASS_NAME, null, false);
+    }
+
+    /**
+     * Acquires the record of the current thread.
+     *
+     * @return the record or {@code null} if the mode is disabled or the record is in use
+     */
+    static ReusableLogRecord acquire() {
+        if (!ENABLED) {
+            return null;
+        }
+        final ReusableLogRecord record = RECORDS.get();
+        if (record.inUse) {
+            return null;
+        }
+        record.inUse = true;
+        return record;
+    }
+
+    /**
+     * Releases the record so it can be reused by the next log call of the thread.
+     */
+    void release() {
+        arguments1[0] = null;
+        arguments2[0] = null;
+        arguments2[1] = null;
+        reset(null, null, false);
+        setParameters(null);
+        setThrown(null);
+        inUse = false;
+        if (dirty) {
+            RECORDS.set(new ReusableLogRecord());
+        }
+    }
+
+    /**
+     * Returns the argument array of the record for a call with one argument.
+     *
+     * @param arg the argument
+     *
+     * @return the argument array
+     */
+    Object[] arguments(final Object arg) {
+        arguments1[0] = arg;
+        return arguments1;
+    }
+
+    /**
+     * Returns the argument array of the record for a call with two arguments.
+     *
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     *
+     * @return the argument array
+     */
+    Object[] arguments(final Object arg1, final Object arg2) {
+        arguments2[0] = arg1;
+        arguments2[1] = arg2;
+        return arguments2;
+    }
+
+    /**
+     * Prepares the record for a log call.
+     *
+     * @param level             the level
+     * @param template          the SLF4J message template, or the formatted message if {@code arguments} is
+     *                          {@code null}
+     * @param arguments         the arguments for the template or {@code null}
+     * @param trailingThrowable {@code true} if the last argument is the throwable for the record
+     *
+     * @return this record
+     */
+    ReusableLogRecord reset(final Level level, final String template, final Object[] arguments,
+            final boolean trailingThrowable) {
+        setLevel(level);
+        reset(template, arguments, trailingThrowable);
+        setSequenceNumber(SEQUENCE.getAndIncrement());
+        setThreadName(Thread.currentThread().getName());
+        setNdc(NDC.get());
+        millis = System.currentTimeMillis();
+        instant = null;
+        return this;
+    }
+
+    @Override
+    public Instant getInstant() {
+        Instant instant = this.instant;
+        if (instant == null) {
+            instant = Instant.ofEpochMilli(millis);
+            this.instant = instant;
+        }
+        return instant;
+    }
+
+    @Override
+    public void setInstant(final Instant instant) {
+        super.setInstant(instant);
+        this.instant = instant;
+        this.millis = instant.toEpochMilli();
+    }
+
+    @Override
+    @Deprecated
+    public long getMillis() {
+        return millis;
+    }
+
+    @Override
+    @Deprecated
+    public void setMillis(final long millis) {
+        setInstant(Instant.ofEpochMilli(millis));
+    }
+
+    @Override
+    public void copyMdc() {
+        dirty = true;
+        super.copyMdc();
+    }
+
+    @Override
+    public void setMdc(final Map<?, ?> mdc) {
+        dirty = true;
+        super.setMdc(mdc);
+    }
+
+    @Override
+    public void copyAll() {
+        dirty = true;
+        super.copyAll();
+    }
+
+    @Override
+    public String getSourceClassName() {
+        callerRequested();
+        return super.getSourceClassName();
+    }
+
+    @Override
+    public String getSourceMethodName() {
+        callerRequested();
+        return super.getSourceMethodName();
+    }
+
+    @Override
+    public String getSourceFileName() {
+        callerRequested();
+        return super.getSourceFileName();
+    }
+
+    @Override
+    public int getSourceLineNumber() {
+        callerRequested();
+        return super.getSourceLineNumber();
+    }
+
+    @Override
+    public String getSourceModuleName() {
+        callerRequested();
+        return super.getSourceModuleName();
+    }
+
+    @Override
+    public String getSourceModuleVersion() {
+        callerRequested();
+        return super.getSourceModuleVersion();
+    }
+
+    private void callerRequested() {
+        // A caller resolved on the calling thread is replaced for each call
+        if (!CallerResolver.ENABLED) {
+            dirty = true;
+        }
+    }
+}
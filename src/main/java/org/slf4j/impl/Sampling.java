@@ -0,0 +1,352 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logmanager.StandardOutputStreams;
+
+/**
+ * The sampling and rate limiting policy. A policy entry limits the events logged at a level.
+ * <p>
+ * The policy is configured with the {@code org.jboss.logmanager.slf4j.sampling} system property. The value is a comma
+ * separated list of {@code level=limit} or {@code level@category=limit} entries. An entry without a category applies to
+ * all loggers. An entry with a category applies to the logger with the category name and its descendants. The most
+ * specific category wins. The limit is one of:
+ * </p>
+ * <ul>
+ * <li>{@code sample:N} logs one in every {@code N} events</li>
+ * <li>{@code rate:N/interval} logs at most {@code N} events per interval, allowing a burst of {@code N} events</li>
+ * <li>{@code first:N/interval} logs the first {@code N} events of each interval</li>
+ * </ul>
+ * <p>
+ * The interval is a number followed by {@code ms}, {@code s}, {@code m} or {@code h}. By default the limit is shared by
+ * the events of a logger at the level. A limit followed by {@code :format} is applied to each message template
+ * separately. For example {@code DEBUG@org.example.dao=sample:100,INFO=rate:50/1s:format}.
+ * </p>
+ * <p>
+ * The number of events which were not logged is added to the next logged event as the {@value #MDC_KEY} MDC entry.
+ * </p>
+ */
+final class Sampling {
+    /**
+     * The MDC key of the record which holds the number of events not logged since the previous record.
+     */
+    static final String MDC_KEY = "suppressed";
+
+    private static final Sampling INSTANCE = parse(System.getProperty("org.jboss.logmanager.slf4j.sampling"));
+
+    // The limits for each level index, keyed by the category
+    private final List<Map<String, Limit>> entries;
+    private final boolean empty;
+
+    private Sampling(final List<Map<String, Limit>> entries) {
+        this.entries = entries;
+        boolean empty = true;
+        for (Map<String, Limit> map : entries) {
+            empty &= map.isEmpty();
+        }
+        this.empty = empty;
+    }
+
+    /**
+     * Returns the policy configured by the system property.
+     *
+     * @return the configured policy
+     */
+    static Sampling getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Parses the policy.
+     *
+     * @param value the value to parse, may be {@code null}
+     *
+     * @return the policy
+     */
+    static Sampling parse(final String value) {
+        final List<Map<String, Limit>> entries = new ArrayList<>();
+        for (int i = 0; i <= MarkerLevels.ERROR; i++) {
+            entries.add(new LinkedHashMap<>());
+        }
+        if (value != null) {
+            for (String entry : value.split(",")) {
+                entry = entry.trim();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                final int eq = entry.indexOf('=');
+                final Limit limit = eq > 0 ? Limit.parse(entry.substring(eq + 1).trim()) : null;
+                final String key = eq > 0 ? entry.substring(0, eq).trim() : "";
+                final int at = key.indexOf('@');
+                final int level = MarkerLevels.levelIndex(at < 0 ? key : key.substring(0, at).trim());
+                if (limit == null || level < 0) {
+                    StandardOutputStreams.printError("Invalid sampling entry \"%s\"%n", entry);
+                    continue;
+                }
+                entries.get(level).put(at < 0 ? "" : key.substring(at + 1).trim(), limit);
+            }
+        }
+        return new Sampling(entries);
+    }
+
+    /**
+     * Resolves the policy for the logger. Each invocation creates new state for the limits.
+     *
+     * @param loggerName the name of the logger
+     *
+     * @return the sampler for each level index or {@code null} if the policy does not apply to the logger
+     */
+    Sampler[] resolve(final String loggerName) {
+        if (empty) {
+            return null;
+        }
+        Sampler[] result = null;
+        for (int level = 0; level < entries.size(); level++) {
+            Limit limit = null;
+            int length = -1;
+            for (Map.Entry<String, Limit> entry : entries.get(level).entrySet()) {
+                final String category = entry.getKey();
+                if (category.length() > length && MarkerLevels.isCategory(loggerName, category)) {
+                    limit = entry.getValue();
+                    length = category.length();
+                }
+            }
+            if (limit != null) {
+                if (result == null) {
+                    result = new Sampler[entries.size()];
+                }
+                result[level] = limit.perFormat ? new PerFormatSampler(limit) : limit.create();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A configured limit.
+     */
+    static final class Limit {
+        private final char kind;
+        private final long count;
+        private final long interval;
+        private final boolean perFormat;
+
+        Limit(final char kind, final long count, final long interval, final boolean perFormat) {
+            this.kind = kind;
+            this.count = count;
+            this.interval = interval;
+            this.perFormat = perFormat;
+        }
+
+        static Limit parse(final String value) {
+            String spec = value;
+            boolean perFormat = false;
+            if (spec.endsWith(":format")) {
+                perFormat = true;
+                spec = spec.substring(0, spec.length() - ":format".length());
+            }
+            final int colon = spec.indexOf(':');
+            if (colon < 0) {
+                return null;
+            }
+            final String kind = spec.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            final String arguments = spec.substring(colon + 1).trim();
+            try {
+                if (kind.equals("sample")) {
+                    final long count = Long.parseLong(arguments);
+                    return count > 0 ? new Limit('s', count, 0L, perFormat) : null;
+                }
+                final int slash = arguments.indexOf('/');
+                if (slash < 0 || !(kind.equals("rate") || kind.equals("first"))) {
+                    return null;
+                }
+                final long count = Long.parseLong(arguments.substring(0, slash).trim());
+                final long interval = parseInterval(arguments.substring(slash + 1).trim());
+                return count > 0 && interval > 0 ? new Limit(kind.charAt(0), count, interval, perFormat) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static long parseInterval(final String value) {
+            final TimeUnit unit;
+            final int suffix;
+            if (value.endsWith("ms")) {
+                unit = TimeUnit.MILLISECONDS;
+                suffix = 2;
+            } else if (value.endsWith("s")) {
+                unit = TimeUnit.SECONDS;
+                suffix = 1;
+            } else if (value.endsWith("m")) {
+                unit = TimeUnit.MINUTES;
+                suffix = 1;
+            } else if (value.endsWith("h")) {
+                unit = TimeUnit.HOURS;
+                suffix = 1;
+            } else {
+                return -1L;
+            }
+            return unit.toNanos(Long.parseLong(value.substring(0, value.length() - suffix).trim()));
+        }
+
+        Sampler create() {
+            switch (kind) {
+                case 's':
+                    return new OneInN(count);
+                case 'r':
+                    return new TokenBucket(count, interval);
+                default:
+                    return new FirstN(count, interval);
+            }
+        }
+    }
+
+    /**
+     * The state of a limit. All state is updated without locking.
+     */
+    abstract static class Sampler {
+        private final LongAdder suppressed = new LongAdder();
+
+        /**
+         * Checks if an event may be logged.
+         *
+         * @param format the message template of the event
+         *
+         * @return the number of events not logged since the previous logged event, or {@code -1} if the event should
+         *         not be logged
+         */
+        long sample(final String format) {
+            if (tryAcquire()) {
+                return suppressed.sumThenReset();
+            }
+            suppressed.increment();
+            return -1L;
+        }
+
+        abstract boolean tryAcquire();
+    }
+
+    private static final class OneInN extends Sampler {
+        private final long n;
+        private final AtomicLong count = new AtomicLong();
+
+        OneInN(final long n) {
+            this.n = n;
+        }
+
+        @Override
+        boolean tryAcquire() {
+            return count.getAndIncrement() % n == 0L;
+        }
+    }
+
+    /**
+     * A token bucket implemented with the generic cell rate algorithm, so the state is a single theoretical arrival
+     * time.
+     */
+    private static final class TokenBucket extends Sampler {
+        private final long emissionInterval;
+        private final long burst;
+        private final AtomicLong arrival;
+
+        TokenBucket(final long count, final long interval) {
+            emissionInterval = Math.max(1L, interval / count);
+            burst = emissionInterval * count;
+            arrival = new AtomicLong(System.nanoTime());
+        }
+
+        @Override
+        boolean tryAcquire() {
+            while (true) {
+                final long now = System.nanoTime();
+                final long current = arrival.get();
+                final long next = (current - now < 0L ? now : current) + emissionInterval;
+                if (next - now > burst) {
+                    return false;
+                }
+                if (arrival.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class FirstN extends Sampler {
+        private final long n;
+        private final long interval;
+        private final AtomicLong windowStart;
+        private final AtomicLong count = new AtomicLong();
+
+        FirstN(final long n, final long interval) {
+            this.n = n;
+            this.interval = interval;
+            windowStart = new AtomicLong(System.nanoTime());
+        }
+
+        @Override
+        boolean tryAcquire() {
+            final long now = System.nanoTime();
+            final long start = windowStart.get();
+            if (now - start >= interval && windowStart.compareAndSet(start, now)) {
+                count.set(0L);
+            }
+            return count.incrementAndGet() <= n;
+        }
+    }
+
+    private static final class PerFormatSampler extends Sampler {
+        // Bounds the memory used by loggers which log many distinct templates, the remaining templates share a limit
+        private static final int MAX_FORMATS = 1024;
+
+        private final Limit limit;
+        private final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+        private final Sampler overflow;
+
+        PerFormatSampler(final Limit limit) {
+            this.limit = limit;
+            overflow = limit.create();
+        }
+
+        @Override
+        long sample(final String format) {
+            Sampler sampler = samplers.get(format == null ? "" : format);
+            if (sampler == null) {
+                sampler = samplers.size() < MAX_FORMATS
+                        ? samplers.computeIfAbsent(format == null ? "" : format, f -> limit.create())
+                        : overflow;
+            }
+            return sampler.sample(format);
+        }
+
+        @Override
+        boolean tryAcquire() {
+            return overflow.tryAcquire();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Binds an {@link MDCScope} for the duration of a task.
+ * <p>
+ * Scoped values are not available before Java 25, so this implementation installs the MDC of the scope on the current
+ * thread and restores the previous MDC when the task completes. The Java 25 implementation in the multi-release JAR
+ * binds the scope to a {@code ScopedValue}.
+ * </p>
+ */
+final class ScopedContext {
+
+    private ScopedContext() {
+    }
+
+    /**
+     * Returns the scope bound to the current thread.
+     *
+     * @return the scope or {@code null} if no scope is bound
+     */
+    static MDCScope current() {
+        return null;
+    }
+
+    /**
+     * Indicates whether a scope is bound to a scoped value while the log manager uses the {@link Slf4jMDCProvider}.
+     *
+     * @return {@code false} as scoped values are not available
+     */
+    static boolean isScoped() {
+        return false;
+    }
+
+    static void run(final MDCMap map, final Runnable task) {
+        final Map<String, Object> previous = Slf4jMDCProvider.restore(map);
+        try {
+            task.run();
+        } finally {
+            Slf4jMDCProvider.restore(previous);
+        }
+    }
+
+    static <T> T call(final MDCMap map, final Callable<T> task) throws Exception {
+        final Map<String, Object> previous = Slf4jMDCProvider.restore(map);
+        try {
+            return task.call();
+        } finally {
+            Slf4jMDCProvider.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.List;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.LoggingEventAware;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
+
+/**
+ * A logger which supports the SLF4J 2 fluent API natively. This type is only used when SLF4J 2 is present, as the
+ * {@link LoggingEventAware} interface does not exist in earlier versions.
+ */
+final class Slf4jEventAwareLogger extends AbstractSlf4jLogger implements LoggingEventAware {
+    private static final long serialVersionUID = -3021858245616375393L;
+    private static final String LOGGER_CLASS_NAME = Slf4jEventAwareLogger.class.getName();
+    private static final boolean STRUCTURED_KEY_VALUES = Boolean
+            .getBoolean("org.jboss.logmanager.slf4j.structuredKeyValues");
+
+    Slf4jEventAwareLogger(final Logger logger) {
+        super(logger, MarkerLevels.getInstance());
+    }
+
+    Slf4jEventAwareLogger(final Logger logger, final MarkerLevels markerLevels) {
+        super(logger, markerLevels);
+    }
+
+    @Override
+    public LoggingEventBuilder makeLoggingEventBuilder(final Level level) {
+        return Slf4jLoggingEventBuilder.of(this, toLevel(level));
+    }
+
+    @Override
+    public LoggingEventBuilder atTrace() {
+        return atLevel(Level.TRACE);
+    }
+
+    @Override
+    public LoggingEventBuilder atDebug() {
+        return atLevel(Level.DEBUG);
+    }
+
+    @Override
+    public LoggingEventBuilder atInfo() {
+        return atLevel(Level.INFO);
+    }
+
+    @Override
+    public LoggingEventBuilder atWarn() {
+        return atLevel(Level.WARN);
+    }
+
+    @Override
+    public LoggingEventBuilder atError() {
+        return atLevel(Level.ERROR);
+    }
+
+    @Override
+    public LoggingEventBuilder atLevel(final Level level) {
+        // A marker added to the builder may enable the event, the builder checks the level again when it is logged
+        if (isEnabledForLevel(level) || hasMarkerLevels(MarkerLevels.levelIndex(toLevel(level)))) {
+            return makeLoggingEventBuilder(level);
+        }
+        return NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public void log(final LoggingEvent event) {
+        final java.util.logging.Level level = toLevel(event.getLevel());
+        final List<Marker> markers = event.getMarkers();
+        final Marker marker = markers == null || markers.isEmpty() ? null : markers.get(0);
+        if (!isLoggable(level, marker)) {
+            return;
+        }
+        final String callerBoundary = event.getCallerBoundary();
+        logEvent(level, callerBoundary == null ? LOGGER_CLASS_NAME : callerBoundary, marker, event.getMessage(),
+                event.getArgumentArray(), event.getThrowable(), event.getKeyValuePairs());
+    }
+
+    void logEvent(final java.util.logging.Level level, final String fqcn, final Marker marker, final String format,
+            final Object[] arguments, final Throwable cause, final List<KeyValuePair> keyValuePairs) {
+        final Throwable candidate = MessageFormatter.getThrowableCandidate(arguments);
+        final boolean trailingThrowable = candidate != null;
+        final Throwable t = cause == null ? candidate : cause;
+        final List<KeyValuePair> pairs = keyValuePairs == null || keyValuePairs.isEmpty() ? null : keyValuePairs;
+        enabled(level);
+        final long suppressed = sample(level, format);
+        if (suppressed < 0L) {
+            return;
+        }
+        final AsyncDispatcher async = AsyncDispatcher.INSTANCE;
+        if (async != null && async.enqueue(this, marker, level, fqcn, format, arguments, t, trailingThrowable, pairs,
+                suppressed)) {
+            return;
+        }
+        final Object event = FlightRecorderEvents.beginSlowLogCall();
+        final long start = timingStart();
+        final ExtLogRecord rec = resolveCaller(
+                createEventRecord(level, fqcn, format, arguments, trailingThrowable, pairs));
+        setSuppressed(rec, suppressed);
+        dispatch(marker, rec, t, arguments, start);
+        FlightRecorderEvents.completeSlowLogCall(event, getName(), level, format);
+    }
+
+    @Override
+    void publish(final AsyncDispatcher.Event event) {
+        final ExtLogRecord rec = createEventRecord(event.level, event.fqcn, event.format, event.arguments,
+                event.trailingThrowable, event.keyValuePairs);
+        event.apply(rec);
+        log(event.marker, rec, event.thrown, event.arguments);
+    }
+
+    private static ExtLogRecord createEventRecord(final java.util.logging.Level level, final String fqcn,
+            final String format, final Object[] arguments, final boolean trailingThrowable,
+            final List<KeyValuePair> keyValuePairs) {
+        if (keyValuePairs == null) {
+            return createRecord(level, fqcn, format, arguments, trailingThrowable);
+        }
+        final Slf4jLogRecord keyValueRecord;
+        if (!STRUCTURED_KEY_VALUES) {
+            // Prepended as SLF4J does for loggers without native fluent API support, so any formatter prints them
+            final StringBuilder message = new StringBuilder();
+            for (KeyValuePair pair : keyValuePairs) {
+                message.append(pair.key).append('=').append(pair.value).append(' ');
+            }
+            MessageTemplate.appendTo(message, format, arguments,
+                    arguments == null ? 0 : trailingThrowable ? arguments.length - 1 : arguments.length);
+            keyValueRecord = new Slf4jLogRecord(level, message.toString(), fqcn, null, false);
+        } else if (DEFER_FORMATTING) {
+            keyValueRecord = new Slf4jLogRecord(level, format, fqcn, arguments, trailingThrowable);
+        } else {
+            keyValueRecord = new Slf4jLogRecord(level, formatMessage(format, arguments, trailingThrowable), fqcn, null,
+                    false);
+        }
+        keyValueRecord.setKeyValuePairs(keyValuePairs);
+        return keyValueRecord;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Arrays;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.slf4j.LogBatch;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * A {@link LogBatch} which holds the records created for a {@link AbstractSlf4jLogger} until it is flushed.
+ */
+final class Slf4jLogBatch implements LogBatch {
+    private static final String BATCH_CLASS_NAME = Slf4jLogBatch.class.getName();
+
+    private final AbstractSlf4jLogger logger;
+    private final java.util.logging.Level level;
+    private final boolean enabled;
+    private ExtLogRecord[] records;
+    private int size;
+
+    Slf4jLogBatch(final AbstractSlf4jLogger logger, final java.util.logging.Level level) {
+        this.logger = logger;
+        this.level = level;
+        this.enabled = logger.isLoggable(level, null);
+        this.records = enabled ? new ExtLogRecord[16] : null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public LogBatch add(final String msg) {
+        if (enabled) {
+            append(logger.createBatchRecord(level, BATCH_CLASS_NAME, msg, null, null, false));
+        }
+        return this;
+    }
+
+    @Override
+    public LogBatch add(final String msg, final Throwable t) {
+        if (enabled) {
+            append(logger.createBatchRecord(level, BATCH_CLASS_NAME, msg, null, t, false));
+        }
+        return this;
+    }
+
+    @Override
+    public LogBatch add(final String format, final Object arg) {
+        if (enabled) {
+            addArguments(format, new Object[] { arg });
+        }
+        return this;
+    }
+
+    @Override
+    public LogBatch add(final String format, final Object arg1, final Object arg2) {
+        if (enabled) {
+            addArguments(format, new Object[] { arg1, arg2 });
+        }
+        return this;
+    }
+
+    @Override
+    public LogBatch add(final String format, final Object... arguments) {
+        if (enabled) {
+            addArguments(format, arguments);
+        }
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void flush() {
+        final int size = this.size;
+        if (size == 0) {
+            return;
+        }
+        final ExtLogRecord[] records = this.records;
+        try {
+            logger.publish(records, size);
+        } finally {
+            Arrays.fill(records, 0, size, null);
+            this.size = 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void addArguments(final String format, final Object[] arguments) {
+        final Throwable t = MessageFormatter.getThrowableCandidate(arguments);
+        append(logger.createBatchRecord(level, BATCH_CLASS_NAME, format, arguments, t, t != null));
+    }
+
+    private void append(final ExtLogRecord rec) {
+        // The record is null if the event was sampled out or handed off to the asynchronous dispatcher
+        if (rec == null) {
+            return;
+        }
+        ExtLogRecord[] records = this.records;
+        if (size == records.length) {
+            this.records = records = Arrays.copyOf(records, size << 1);
+        }
+        records[size++] = rec;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.io.ObjectStreamException;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.slf4j.FormattableRecord;
+import org.jboss.logmanager.slf4j.KeyValueRecord;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * A log record created by this binding.
+ * <p>
+ * If arguments are passed to the record, the message is the raw SLF4J message template. The template is formatted with
+ * a {@link MessageTemplate}, as the {@link MessageFormatter} would, the first time {@link #getFormattedMessage()} is
+ * invoked and the result is cached. If the message is replaced, the record behaves like a plain {@link ExtLogRecord}.
+ * </p>
+ * <p>
+ * The record also carries the key/value pairs of events logged with the fluent API.
+ * </p>
+ */
+class Slf4jLogRecord extends ExtLogRecord implements KeyValueRecord, FormattableRecord {
+    private static final long serialVersionUID = 2613553397016617045L;
+
+    private transient Object[] arguments;
+    private transient boolean trailingThrowable;
+    private transient String formattedMessage;
+    private transient List<KeyValuePair> keyValuePairs;
+
+    /**
+     * Creates a new record.
+     *
+     * @param level             the level
+     * @param template          the SLF4J message template, or the formatted message if {@code arguments} is
+     *                          {@code null}
+     * @param loggerClassName   the name of the logger class used to find the caller
+     * @param arguments         the arguments for the template or {@code null} if the message is already formatted
+     * @param trailingThrowable {@code true} if the last argument is the throwable for the record and should not be
+     *                          used for formatting
+     */
+    Slf4jLogRecord(final Level level, final String template, final String loggerClassName, final Object[] arguments,
+            final boolean trailingThrowable) {
+        super(level, template, FormatStyle.NO_FORMAT, loggerClassName);
+        this.arguments = arguments;
+        this.trailingThrowable = trailingThrowable;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public String getFormattedMessage() {
+        final Object[] arguments = this.arguments;
+        if (arguments == null) {
+            return super.getFormattedMessage();
+        }
+        // Racy single-check, the result is an immutable string and formatting is idempotent
+        String result = formattedMessage;
+        if (result == null) {
+            result = AbstractSlf4jLogger.formatMessage(getMessage(), arguments, trailingThrowable);
+            formattedMessage = result;
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void formatMessageTo(final StringBuilder target) {
+        final Object[] arguments = this.arguments;
+        final String result = formattedMessage;
+        if (arguments == null || result != null) {
+            target.append(arguments == null ? super.getFormattedMessage() : result);
+        } else {
+            MessageTemplate.appendTo(target, getMessage(), arguments,
+                    trailingThrowable ? arguments.length - 1 : arguments.length);
+        }
+    }
+
+    /**
+     * Replaces the message and arguments of the record, so it can be reused for another event.
+     *
+     * @param template          the SLF4J message template, or the formatted message if {@code arguments} is
+     *                          {@code null}
+     * @param arguments         the arguments for the template or {@code null} if the message is already formatted
+     * @param trailingThrowable {@code true} if the last argument is the throwable for the record
+     */
+    void reset(final String template, final Object[] arguments, final boolean trailingThrowable) {
+        super.setMessage(template, FormatStyle.NO_FORMAT);
+        this.arguments = arguments;
+        this.trailingThrowable = trailingThrowable;
+        this.formattedMessage = null;
+        this.keyValuePairs = null;
+    }
+
+    @Override
+    public List<KeyValuePair> getKeyValuePairs() {
+        final List<KeyValuePair> keyValuePairs = this.keyValuePairs;
+        return keyValuePairs == null ? List.of() : Collections.unmodifiableList(keyValuePairs);
+    }
+
+    void setKeyValuePairs(final List<KeyValuePair> keyValuePairs) {
+        this.keyValuePairs = keyValuePairs;
+    }
+
+    @Override
+    public void setMessage(final String message, final FormatStyle formatStyle) {
+        arguments = null;
+        formattedMessage = null;
+        super.setMessage(message, formatStyle);
+    }
+
+    /**
+     * Replaces this record with a plain {@link ExtLogRecord} containing the formatted message so the deferred state
+     * does not need to be serialized.
+     *
+     * @return the replacement record
+     *
+     * @throws ObjectStreamException never thrown
+     */
+    protected Object writeReplace() throws ObjectStreamException {
+        final ExtLogRecord result = new ExtLogRecord(this);
+        result.setMessage(getFormattedMessage(), FormatStyle.NO_FORMAT);
+        return result;
+    }
+}
@@ -19,28 +19,175 @@
 
 package org.slf4j.impl;
 
-import static java.security.AccessController.doPrivileged;
-
+import java.lang.ref.WeakReference;
 import java.security.PrivilegedAction;
 
 import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.slf4j.LogBatch;
+import org.jboss.logmanager.slf4j.PrimitiveLogger;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
 
+/**
+ * The logger factory which creates loggers backed by the JBoss Log Manager.
+ * <p>
+ * Loggers are cached per {@link LogContext} by name, so a lookup does not need to walk the logger tree. Loggers
+ * requested with {@link #getLogger(Class)} are additionally cached on the class. Both caches are checked against the
+ * current log context, so the correct logger is returned if a different {@link org.jboss.logmanager.LogContextSelector}
+ * is installed.
+ * </p>
+ * <p>
+ * If {@code org.jboss.logmanager.slf4j.weakLoggers} is {@code true} the loggers are weakly referenced by the
+ * {@link LoggerRegistry}, so loggers for names which are no longer used can be reclaimed.
+ * </p>
+ */
 public final class Slf4jLoggerFactory implements ILoggerFactory {
 
-    private static final org.jboss.logmanager.Logger.AttachmentKey<Logger> key = new org.jboss.logmanager.Logger.AttachmentKey<>();
+    private static final org.jboss.logmanager.Logger.AttachmentKey<AbstractSlf4jLogger> key = new org.jboss.logmanager.Logger.AttachmentKey<>();
+    private static final org.jboss.logmanager.Logger.AttachmentKey<LoggerRegistry> cacheKey = new org.jboss.logmanager.Logger.AttachmentKey<>();
+    private static final boolean EVENT_AWARE = isEventAwareSupported();
+    // The logger is weakly referenced, so a class does not keep the log context of another class loader reachable
+    private static final ClassValue<ClassLoggerHolder> CLASS_LOGGERS = new ClassValue<>() {
+        @Override
+        protected ClassLoggerHolder computeValue(final Class<?> type) {
+            return new ClassLoggerHolder();
+        }
+    };
+
+    @Override
+    public PrimitiveLogger getLogger(final String name) {
+        return getLogger(LogContext.getLogContext(), name);
+    }
+
+    /**
+     * Returns the logger for the class. The logger is cached on the class for the current log context.
+     *
+     * @param clazz the class to get the logger for
+     *
+     * @return the logger
+     */
+    public PrimitiveLogger getLogger(final Class<?> clazz) {
+        final LogContext logContext = LogContext.getLogContext();
+        final ClassLoggerHolder holder = CLASS_LOGGERS.get(clazz);
+        final AbstractSlf4jLogger cached = holder.logger.get();
+        if (cached != null && cached.getLogContext() == logContext) {
+            return cached;
+        }
+        final AbstractSlf4jLogger logger = getLogger(logContext, clazz.getName());
+        holder.logger = new WeakReference<>(logger);
+        return logger;
+    }
+
+    /**
+     * Creates a batch for a logger of the binding. This is used by {@link LogBatch#of(Logger, org.slf4j.event.Level)}
+     * and is not meant to be invoked directly.
+     *
+     * @param logger the logger
+     * @param level  the level of the events
+     *
+     * @return the batch or {@code null} if the logger was not obtained from this binding
+     */
+    public static LogBatch batch(final Logger logger, final org.slf4j.event.Level level) {
+        return logger instanceof AbstractSlf4jLogger ? ((AbstractSlf4jLogger) logger).batch(level) : null;
+    }
+
+    static AbstractSlf4jLogger getLogger(final LogContext logContext, final String name) {
+        if (LoggerManifest.ENABLED) {
+            // Recorded for each request rather than on creation, so a logger created from the manifest is only written
+            // back if it is still requested
+            LoggerManifest.record(name);
+        }
+        return findLogger(logContext, name);
+    }
 
-    public Logger getLogger(final String name) {
-        final org.jboss.logmanager.Logger lmLogger = LogContext.getLogContext().getLogger(name);
-        final Logger logger = lmLogger.getAttachment(key);
+    /**
+     * Returns the logger for the name, creating it if required, without recording it in the {@link LoggerManifest}.
+     *
+     * @param logContext the log context
+     * @param name       the name of the logger
+     *
+     * @return the logger
+     */
+    static AbstractSlf4jLogger findLogger(final LogContext logContext, final String name) {
+        LoggerRegistry cache = logContext.getAttachment(cacheKey);
+        if (cache != null) {
+            final AbstractSlf4jLogger logger = cache.get(name);
+            if (logger != null) {
+                return logger;
+            }
+        } else {
+            cache = attachCache(logContext);
+        }
+        final Object event = FlightRecorderEvents.beginLoggerCreated();
+        final AbstractSlf4jLogger logger = createLogger(logContext.getLogger(name));
+        final AbstractSlf4jLogger appearingLogger = cache.putIfAbsent(name, logger);
+        if (appearingLogger != null) {
+            return appearingLogger;
+        }
+        FlightRecorderEvents.completeLoggerCreated(event, name, logger.getClass());
+        return logger;
+    }
+
+    /**
+     * Returns the loggers cached for the log context.
+     *
+     * @param logContext the log context
+     *
+     * @return the cached loggers or {@code null} if no logger has been created for the log context
+     */
+    static LoggerRegistry getCachedLoggers(final LogContext logContext) {
+        return logContext.getAttachment(cacheKey);
+    }
+
+    private static LoggerRegistry attachCache(final LogContext logContext) {
+        return privileged(
+                (PrivilegedAction<LoggerRegistry>) () -> {
+                    final LoggerRegistry newCache = LoggerRegistry.create(logContext);
+                    final LoggerRegistry appearingCache = logContext.attachIfAbsent(cacheKey, newCache);
+                    return appearingCache != null ? appearingCache : newCache;
+                });
+    }
+
+    private static AbstractSlf4jLogger createLogger(final org.jboss.logmanager.Logger lmLogger) {
+        if (LoggerRegistry.WEAK) {
+            // The registry holds the only reference, attaching the logger would keep it as long as the logger node
+            return newLogger(lmLogger);
+        }
+        final AbstractSlf4jLogger logger = lmLogger.getAttachment(key);
         if (logger != null) {
             return logger;
         }
-        return doPrivileged((PrivilegedAction<Logger>) () -> {
-            final Logger newLogger = new Slf4jLogger(lmLogger);
-            final Logger appearingLogger = lmLogger.attachIfAbsent(key, newLogger);
+        return privileged((PrivilegedAction<AbstractSlf4jLogger>) () -> {
+            final AbstractSlf4jLogger newLogger = newLogger(lmLogger);
+            final AbstractSlf4jLogger appearingLogger = lmLogger.attachIfAbsent(key, newLogger);
             return appearingLogger != null ? appearingLogger : newLogger;
         });
     }
+
+    @SuppressWarnings("removal")
+    private static <T> T privileged(final PrivilegedAction<T> action) {
+        // Only a security manager requires the privileged action, otherwise it only adds frames to the creating thread
+        return System.getSecurityManager() == null ? action.run()
+                : java.security.AccessController.doPrivileged(action);
+    }
+
+    private static AbstractSlf4jLogger newLogger(final org.jboss.logmanager.Logger lmLogger) {
+        // Typed as the interface so Slf4jEventAwareLogger is not loaded when verifying with SLF4J 1.7
+        final Logger created = EVENT_AWARE ? new Slf4jEventAwareLogger(lmLogger) : new Slf4jLogger(lmLogger);
+        return (AbstractSlf4jLogger) created;
+    }
+
+    private static boolean isEventAwareSupported() {
+        // The fluent API is only available in SLF4J 2
+        try {
+            Class.forName("org.slf4j.spi.LoggingEventAware", false, Slf4jLoggerFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException ignored) {
+            return false;
+        }
+    }
+
+    private static final class ClassLoggerHolder {
+        volatile WeakReference<AbstractSlf4jLogger> logger = new WeakReference<>(null);
+    }
 }
@@ -0,0 +1,276 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.spi.CallerBoundaryAware;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * A {@link LoggingEventBuilder} which creates the log record directly rather than building an intermediate
+ * {@link org.slf4j.event.LoggingEvent}.
+ * <p>
+ * Arguments and key/value pairs added with a {@link Supplier} are only evaluated if the event is logged. Only the first
+ * marker added is attached to the record, as a log record can only hold a single marker.
+ * </p>
+ * <p>
+ * Each thread reuses a single builder which is released once the event has been logged. A builder which is requested
+ * while the thread's builder is still in use, for example from an argument supplier, is allocated instead.
+ * </p>
+ */
+final class Slf4jLoggingEventBuilder implements LoggingEventBuilder, CallerBoundaryAware {
+    private static final String BUILDER_CLASS_NAME = Slf4jLoggingEventBuilder.class.getName();
+    // Most events have only a few arguments
+    private static final int INITIAL_ARGUMENTS = 4;
+    private static final ThreadLocal<Slf4jLoggingEventBuilder> BUILDERS = new ThreadLocal<>();
+
+    private final boolean reusable;
+    private boolean inUse;
+    private Slf4jEventAwareLogger logger;
+    private java.util.logging.Level level;
+    private String callerBoundary = BUILDER_CLASS_NAME;
+    private Marker marker;
+    private Throwable cause;
+    private String message;
+    private Supplier<String> messageSupplier;
+    private Object[] arguments;
+    private int argumentCount;
+    // Each set bit indicates the argument at that index is a supplier which has not yet been evaluated
+    private long argumentSuppliers;
+    private List<KeyValuePair> keyValuePairs;
+    // Each set bit indicates the value of the key/value pair at that index is a supplier
+    private long keyValueSuppliers;
+
+    private Slf4jLoggingEventBuilder(final boolean reusable) {
+        this.reusable = reusable;
+    }
+
+    /**
+     * Returns the current thread's builder, or a new builder if the thread's builder is in use.
+     *
+     * @param logger the logger the event is logged to
+     * @param level  the level of the event
+     *
+     * @return a builder for the event
+     */
+    static Slf4jLoggingEventBuilder of(final Slf4jEventAwareLogger logger, final java.util.logging.Level level) {
+        Slf4jLoggingEventBuilder builder = BUILDERS.get();
+        if (builder == null) {
+            builder = new Slf4jLoggingEventBuilder(true);
+            BUILDERS.set(builder);
+        } else if (builder.inUse) {
+            builder = new Slf4jLoggingEventBuilder(false);
+        }
+        builder.inUse = true;
+        builder.logger = logger;
+        builder.level = level;
+        return builder;
+    }
+
+    @Override
+    public LoggingEventBuilder setCause(final Throwable cause) {
+        this.cause = cause;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addMarker(final Marker marker) {
+        if (this.marker == null) {
+            this.marker = marker;
+        }
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(final Object p) {
+        appendArgument(p);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(final Supplier<?> objectSupplier) {
+        final int index = appendArgument(objectSupplier);
+        if (index < Long.SIZE) {
+            argumentSuppliers |= 1L << index;
+        } else {
+            arguments[index] = objectSupplier.get();
+        }
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(final String key, final Object value) {
+        appendKeyValue(key, value);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(final String key, final Supplier<Object> valueSupplier) {
+        final int index = keyValuePairs == null ? 0 : keyValuePairs.size();
+        if (index < Long.SIZE) {
+            appendKeyValue(key, valueSupplier);
+            keyValueSuppliers |= 1L << index;
+        } else {
+            appendKeyValue(key, valueSupplier.get());
+        }
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder setMessage(final String message) {
+        this.message = message;
+        this.messageSupplier = null;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder setMessage(final Supplier<String> messageSupplier) {
+        this.message = null;
+        this.messageSupplier = messageSupplier;
+        return this;
+    }
+
+    @Override
+    public void setCallerBoundary(final String fqcn) {
+        this.callerBoundary = fqcn;
+    }
+
+    @Override
+    public void log() {
+        emit();
+    }
+
+    @Override
+    public void log(final String message) {
+        setMessage(message);
+        emit();
+    }
+
+    @Override
+    public void log(final String message, final Object arg) {
+        setMessage(message);
+        appendArgument(arg);
+        emit();
+    }
+
+    @Override
+    public void log(final String message, final Object arg0, final Object arg1) {
+        setMessage(message);
+        appendArgument(arg0);
+        appendArgument(arg1);
+        emit();
+    }
+
+    @Override
+    public void log(final String message, final Object... args) {
+        setMessage(message);
+        if (args != null) {
+            for (Object arg : args) {
+                appendArgument(arg);
+            }
+        }
+        emit();
+    }
+
+    @Override
+    public void log(final Supplier<String> messageSupplier) {
+        setMessage(messageSupplier);
+        emit();
+    }
+
+    private void emit() {
+        try {
+            if (logger.isLoggable(level, marker)) {
+                logEvent();
+            }
+        } finally {
+            release();
+        }
+    }
+
+    private void logEvent() {
+        final int argumentCount = this.argumentCount;
+        // The array is passed as is to the record, so it must not contain unused slots
+        final Object[] arguments = argumentCount == 0 ? null
+                : argumentCount == this.arguments.length ? this.arguments
+                        : Arrays.copyOf(this.arguments, argumentCount);
+        long suppliers = argumentSuppliers;
+        while (suppliers != 0) {
+            final int index = Long.numberOfTrailingZeros(suppliers);
+            arguments[index] = ((Supplier<?>) arguments[index]).get();
+            suppliers &= suppliers - 1;
+        }
+        final List<KeyValuePair> keyValuePairs = this.keyValuePairs;
+        suppliers = keyValueSuppliers;
+        while (suppliers != 0) {
+            final int index = Long.numberOfTrailingZeros(suppliers);
+            final KeyValuePair pair = keyValuePairs.get(index);
+            keyValuePairs.set(index, new KeyValuePair(pair.key, ((Supplier<?>) pair.value).get()));
+            suppliers &= suppliers - 1;
+        }
+        final String message = messageSupplier == null ? this.message : messageSupplier.get();
+        logger.logEvent(level, callerBoundary, marker, message, arguments, cause, keyValuePairs);
+    }
+
+    private void release() {
+        // The arguments and key/value pairs are handed to the record, so they are never reused
+        callerBoundary = BUILDER_CLASS_NAME;
+        marker = null;
+        cause = null;
+        message = null;
+        messageSupplier = null;
+        arguments = null;
+        argumentCount = 0;
+        argumentSuppliers = 0;
+        keyValuePairs = null;
+        keyValueSuppliers = 0;
+        if (reusable) {
+            logger = null;
+            level = null;
+            inUse = false;
+        }
+    }
+
+    private int appendArgument(final Object arg) {
+        Object[] arguments = this.arguments;
+        final int index = argumentCount;
+        if (arguments == null) {
+            arguments = this.arguments = new Object[INITIAL_ARGUMENTS];
+        } else if (index == arguments.length) {
+            arguments = this.arguments = Arrays.copyOf(arguments, index << 1);
+        }
+        arguments[index] = arg;
+        argumentCount = index + 1;
+        return index;
+    }
+
+    private void appendKeyValue(final String key, final Object value) {
+        if (keyValuePairs == null) {
+            keyValuePairs = new ArrayList<>(4);
+        }
+        keyValuePairs.add(new KeyValuePair(key, value));
+    }
+}
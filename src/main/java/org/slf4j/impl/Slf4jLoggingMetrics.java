@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.jboss.logmanager.StandardOutputStreams;
+import org.jboss.logmanager.slf4j.LoggerRegistryStatistics;
+import org.jboss.logmanager.slf4j.LoggerStatistics;
+import org.jboss.logmanager.slf4j.LoggingMetricsMXBean;
+
+/**
+ * The {@link LoggingMetricsMXBean} backed by the {@link LoggerMetrics}.
+ */
+final class Slf4jLoggingMetrics implements LoggingMetricsMXBean {
+    private static final String[] LEVEL_NAMES = { "TRACE", "DEBUG", "INFO", "WARN", "ERROR" };
+
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Registers the MXBean with the platform MBean server if metrics are enabled. Subsequent invocations have no
+     * effect. As the {@code java.management} module is optional this class must only be loaded when the metrics are
+     * {@linkplain LoggerMetrics#ENABLED enabled}.
+     */
+    static void register() {
+        if (!LoggerMetrics.ENABLED || REGISTERED.get() || !REGISTERED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new Slf4jLoggingMetrics(),
+                    new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) {
+            StandardOutputStreams.printError(e, "Failed to register the logging metrics MXBean %s%n", OBJECT_NAME);
+        }
+    }
+
+    @Override
+    public long getCalls() {
+        long result = 0L;
+        for (LoggerMetrics metrics : LoggerMetrics.all()) {
+            result += sum(metrics.rejected) + sum(metrics.enabled);
+        }
+        return result;
+    }
+
+    @Override
+    public long getRejected() {
+        long result = 0L;
+        for (LoggerMetrics metrics : LoggerMetrics.all()) {
+            result += sum(metrics.rejected);
+        }
+        return result;
+    }
+
+    @Override
+    public long getEmitted() {
+        long result = 0L;
+        for (LoggerMetrics metrics : LoggerMetrics.all()) {
+            result += sum(metrics.emitted);
+        }
+        return result;
+    }
+
+    @Override
+    public long getAsyncDropped() {
+        final AsyncDispatcher async = AsyncDispatcher.INSTANCE;
+        return async == null ? 0L : async.getDroppedBelowWarn() + async.getDroppedOldest();
+    }
+
+    @Override
+    public String[] getLoggerNames() {
+        final List<String> names = new ArrayList<>();
+        for (LoggerMetrics metrics : LoggerMetrics.all()) {
+            names.add(metrics.name);
+        }
+        names.sort(null);
+        return names.toArray(new String[0]);
+    }
+
+    @Override
+    public LoggerStatistics getLoggerStatistics(final String name) {
+        final LoggerMetrics metrics = LoggerMetrics.get(name);
+        return metrics == null ? null : snapshot(metrics);
+    }
+
+    @Override
+    public LoggerStatistics[] topLoggersByCalls(final int count) {
+        return top(count, Comparator.comparingLong(LoggerStatistics::getCalls));
+    }
+
+    @Override
+    public LoggerStatistics[] topLoggersByEmitted(final int count) {
+        return top(count, Comparator.comparingLong(LoggerStatistics::getEmitted));
+    }
+
+    @Override
+    public LoggerStatistics[] topLoggersByTime(final int count) {
+        return top(count, Comparator.comparingLong(s -> s.getCreateNanos() + s.getDispatchNanos()));
+    }
+
+    @Override
+    public LoggerRegistryStatistics[] getLoggerRegistries() {
+        final List<LoggerRegistryStatistics> result = new ArrayList<>();
+        for (LoggerRegistry registry : LoggerRegistry.all()) {
+            result.add(new LoggerRegistryStatistics(registry.getName(), registry.size(), LoggerRegistry.WEAK,
+                    registry.estimateHeapBytes()));
+        }
+        return result.toArray(new LoggerRegistryStatistics[0]);
+    }
+
+    @Override
+    public void reset() {
+        for (LoggerMetrics metrics : LoggerMetrics.all()) {
+            metrics.reset();
+        }
+    }
+
+    private static LoggerStatistics[] top(final int count, final Comparator<LoggerStatistics> comparator) {
+        final List<LoggerStatistics> result = new ArrayList<>();
+        for (LoggerMetrics metrics : LoggerMetrics.all()) {
+            result.add(snapshot(metrics));
+        }
+        result.sort(comparator.reversed());
+        return result.subList(0, Math.max(0, Math.min(count, result.size()))).toArray(new LoggerStatistics[0]);
+    }
+
+    private static LoggerStatistics snapshot(final LoggerMetrics metrics) {
+        return new LoggerStatistics(metrics.name, byLevel(metrics.rejected), byLevel(metrics.enabled),
+                byLevel(metrics.emitted), metrics.timed.sum(), metrics.createNanos.sum(), metrics.dispatchNanos.sum());
+    }
+
+    private static Map<String, Long> byLevel(final LongAdder[] counters) {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < counters.length; i++) {
+            result.put(LEVEL_NAMES[i], counters[i].sum());
+        }
+        return result;
+    }
+
+    private static long sum(final LongAdder[] counters) {
+        long result = 0L;
+        for (LongAdder counter : counters) {
+            result += counter.sum();
+        }
+        return result;
+    }
+}
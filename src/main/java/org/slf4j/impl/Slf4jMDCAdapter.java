@@ -19,13 +19,31 @@
 
 package org.slf4j.impl;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.NDC;
 import org.slf4j.helpers.BasicMDCAdapter;
 import org.slf4j.spi.MDCAdapter;
 
+/**
+ * An {@link MDCAdapter} backed by the JBoss Log Manager {@link MDC} and {@link NDC}.
+ * <p>
+ * The keyed deques are stored in the {@link MDC} under the key followed by {@code []}, e.g. the deque for the
+ * {@code request} key is stored under {@code request[]}, so a formatter can include them like any other MDC value and
+ * plain values never replace them. A {@code null} key uses the {@link NDC}. The {@linkplain #getCopyOfContextMap()
+ * context map} only contains the plain values and {@linkplain #setContextMap(Map) replacing it} keeps the deques.
+ * </p>
+ */
 public final class Slf4jMDCAdapter extends BasicMDCAdapter implements MDCAdapter {
+    private static final String DEQUE_SUFFIX = "[]";
+    // The number of deques in the MDC, only present while the MDC holds a deque
+    private static final String DEQUES_KEY = "[deques]";
 
     @Override
     public void put(final String key, final String val) {
@@ -49,18 +67,152 @@ public final class Slf4jMDCAdapter extends BasicMDCAdapter implements MDCAdapter
 
     @Override
     public Map<String, String> getCopyOfContextMap() {
-        return MDC.copy();
+        if (!hasDeques()) {
+            return MDC.copy();
+        }
+        final Map<String, Object> copy = MDC.copyObject();
+        final Map<String, String> result = new HashMap<>(copy.size());
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            if (!isDequeEntry(entry.getKey(), entry.getValue())) {
+                result.put(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+        return result;
     }
 
     @Override
     public void setContextMap(final Map contextMap) {
-        MDC.clear();
-        for (Map.Entry<?, ?> entry : ((Map<?, ?>) contextMap).entrySet()) {
-            final Object key = entry.getKey();
-            final Object value = entry.getValue();
-            if (key != null && value != null) {
-                MDC.put(key.toString(), value.toString());
+        // The deques are not part of the context map, so they are put back once the plain values are replaced
+        Map<String, Object> deques = null;
+        if (hasDeques()) {
+            deques = new HashMap<>();
+            for (Map.Entry<String, Object> entry : MDC.copyObject().entrySet()) {
+                if (isDequeEntry(entry.getKey(), entry.getValue())) {
+                    deques.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        if (!Slf4jMDCProvider.setContextMap(contextMap)) {
+            MDC.clear();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) contextMap).entrySet()) {
+                final Object key = entry.getKey();
+                final Object value = entry.getValue();
+                if (key != null && value != null) {
+                    MDC.put(key.toString(), value.toString());
+                }
+            }
+        }
+        if (deques != null) {
+            for (Map.Entry<String, Object> entry : deques.entrySet()) {
+                MDC.putObject(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the plain values currently in the MDC.
+     *
+     * @return a copy of the keys
+     */
+    @Override
+    public Set<String> getKeys() {
+        final Map<String, Object> copy = MDC.copyObject();
+        if (!hasDeques()) {
+            return copy.keySet();
+        }
+        final Set<String> result = new HashSet<>(copy.size());
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            if (!isDequeEntry(entry.getKey(), entry.getValue())) {
+                result.add(entry.getKey());
             }
         }
+        return result;
+    }
+
+    // The deque methods do not exist in the SLF4J 1.7 MDCAdapter
+
+    public void pushByKey(final String key, final String value) {
+        if (key == null) {
+            NDC.push(value);
+        } else {
+            final String dequeKey = key + DEQUE_SUFFIX;
+            final Object current = MDC.getObject(dequeKey);
+            if (current instanceof MDCStack) {
+                MDC.putObject(dequeKey, MDCStack.push((MDCStack) current, value));
+            } else {
+                MDC.putObject(dequeKey, MDCStack.push(null, value));
+                dequeAdded();
+            }
+        }
+    }
+
+    public String popByKey(final String key) {
+        if (key == null) {
+            return NDC.getDepth() == 0 ? null : NDC.pop();
+        }
+        final String dequeKey = key + DEQUE_SUFFIX;
+        final Object current = MDC.getObject(dequeKey);
+        if (!(current instanceof MDCStack)) {
+            return null;
+        }
+        final MDCStack stack = (MDCStack) current;
+        final MDCStack remaining = stack.pop();
+        if (remaining == null) {
+            MDC.removeObject(dequeKey);
+            dequeRemoved();
+        } else {
+            MDC.putObject(dequeKey, remaining);
+        }
+        return stack.peek();
+    }
+
+    public Deque<String> getCopyOfDequeByKey(final String key) {
+        if (key == null) {
+            final int depth = NDC.getDepth();
+            if (depth == 0) {
+                return null;
+            }
+            final Deque<String> result = new ArrayDeque<>(depth);
+            for (int i = depth - 1; i >= 0; i--) {
+                result.addLast(NDC.get(i));
+            }
+            return result;
+        }
+        final Object current = MDC.getObject(key + DEQUE_SUFFIX);
+        return current instanceof MDCStack ? ((MDCStack) current).toDeque() : null;
+    }
+
+    public void clearDequeByKey(final String key) {
+        if (key == null) {
+            NDC.clear();
+        } else {
+            final String dequeKey = key + DEQUE_SUFFIX;
+            if (MDC.getObject(dequeKey) instanceof MDCStack) {
+                MDC.removeObject(dequeKey);
+                dequeRemoved();
+            }
+        }
+    }
+
+    private static boolean hasDeques() {
+        return MDC.getObject(DEQUES_KEY) instanceof Integer;
+    }
+
+    private static boolean isDequeEntry(final String key, final Object value) {
+        return value instanceof MDCStack || value instanceof Integer && DEQUES_KEY.equals(key);
+    }
+
+    private static void dequeAdded() {
+        final Object count = MDC.getObject(DEQUES_KEY);
+        MDC.putObject(DEQUES_KEY, count instanceof Integer ? (Integer) count + 1 : 1);
+    }
+
+    private static void dequeRemoved() {
+        final Object count = MDC.getObject(DEQUES_KEY);
+        if (count instanceof Integer && (Integer) count > 1) {
+            MDC.putObject(DEQUES_KEY, (Integer) count - 1);
+        } else {
+            MDC.removeObject(DEQUES_KEY);
+        }
     }
 }
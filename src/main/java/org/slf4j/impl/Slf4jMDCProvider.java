@@ -0,0 +1,295 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.MDCProvider;
+
+/**
+ * An {@link MDCProvider} which stores the context of each thread as an immutable {@link MDCMap}.
+ * <p>
+ * Changing a value copies the small map, while capturing the current context is a read of a reference and restoring a
+ * captured context is a single write. A new thread inherits the context of its parent without a copy.
+ * </p>
+ * <p>
+ * The provider is registered as a service, but as it is used by every application sharing the log manager the
+ * immutable context is only used if the {@code org.jboss.logmanager.slf4j.mdcProvider} system property is set to
+ * {@code true}. Otherwise each thread has a mutable map which is copied when a thread is created, like the default MDC
+ * of the log manager.
+ * </p>
+ * <p>
+ * While a scope is bound with {@link #runScoped(Map, Runnable)} the context is read from the scope instead of the
+ * thread, see {@link MDCScope}.
+ * </p>
+ * <p>
+ * The map returned by {@link #copyObject()} is the immutable snapshot itself. The public API for capturing and
+ * restoring the context is {@link org.jboss.logmanager.slf4j.MDCSnapshot}.
+ * </p>
+ */
+public final class Slf4jMDCProvider implements MDCProvider {
+    static final boolean ENABLED = Boolean.getBoolean("org.jboss.logmanager.slf4j.mdcProvider");
+
+    private static final Holder CONTEXT = new Holder();
+    private static final PlainHolder PLAIN_CONTEXT = new PlainHolder();
+
+    /**
+     * Creates the provider. This is invoked by the service loader.
+     */
+    public Slf4jMDCProvider() {
+    }
+
+    /**
+     * Indicates whether this provider is the one used by the log manager {@link MDC} and stores the context as an
+     * immutable map.
+     *
+     * @return {@code true} if this provider is in use
+     */
+    static boolean isActive() {
+        return ENABLED && Active.ACTIVE;
+    }
+
+    /**
+     * Returns an immutable snapshot of the context of the current thread.
+     *
+     * @return the current context
+     */
+    public static Map<String, Object> capture() {
+        if (isActive()) {
+            return current();
+        }
+        return Collections.unmodifiableMap(MDC.copyObject());
+    }
+
+    /**
+     * Creates an immutable snapshot with the entries of the map.
+     *
+     * @param context the entries, entries with a {@code null} key or value are ignored
+     *
+     * @return the snapshot
+     */
+    public static Map<String, Object> snapshotOf(final Map<String, ?> context) {
+        return MDCMap.of(context, false);
+    }
+
+    /**
+     * Replaces the context of the current thread.
+     *
+     * @param context the new context, entries with a {@code null} key or value are ignored
+     *
+     * @return an immutable snapshot of the replaced context
+     */
+    public static Map<String, Object> restore(final Map<String, ?> context) {
+        if (isActive()) {
+            final MDCMap previous = current();
+            set(MDCMap.of(context, false));
+            return previous;
+        }
+        final Map<String, Object> previous = Collections.unmodifiableMap(MDC.copyObject());
+        MDC.clear();
+        for (Map.Entry<String, ?> entry : context.entrySet()) {
+            final String key = entry.getKey();
+            final Object value = entry.getValue();
+            if (key != null && value != null) {
+                MDC.putObject(key, value);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Replaces the context of the current thread with the string values of the map.
+     *
+     * @param context the new context
+     *
+     * @return {@code true} if the context was replaced, {@code false} if this provider is not in use
+     */
+    static boolean setContextMap(final Map<?, ?> context) {
+        if (isActive()) {
+            set(MDCMap.of(context, true));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Runs the task with the values added to the MDC of the current thread. On Java 25 and later the MDC is bound to a
+     * scoped value, which is inherited by structured concurrency subtasks and does not require a per-thread map.
+     *
+     * @param values the values to add
+     * @param task   the task to run
+     */
+    public static void runScoped(final Map<String, ?> values, final Runnable task) {
+        ScopedContext.run(MDCMap.of(capture(), false).withAll(MDCMap.of(values, false)), task);
+    }
+
+    /**
+     * Calls the task with the values added to the MDC of the current thread.
+     *
+     * @param values the values to add
+     * @param task   the task to call
+     * @param <T>    the result type
+     *
+     * @return the result of the task
+     *
+     * @throws Exception if the task fails
+     * @see #runScoped(Map, Runnable)
+     */
+    public static <T> T callScoped(final Map<String, ?> values, final Callable<T> task) throws Exception {
+        return ScopedContext.call(MDCMap.of(capture(), false).withAll(MDCMap.of(values, false)), task);
+    }
+
+    @Override
+    public String get(final String key) {
+        final Object value = getObject(key);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public Object getObject(final String key) {
+        return ENABLED ? current().get(key) : plain().get(key);
+    }
+
+    @Override
+    public String put(final String key, final String value) {
+        final Object previous = putObject(key, value);
+        return previous == null ? null : previous.toString();
+    }
+
+    @Override
+    public Object putObject(final String key, final Object value) {
+        if (key == null) {
+            throw new NullPointerException("key is null");
+        }
+        if (value == null) {
+            throw new NullPointerException("value is null");
+        }
+        if (!ENABLED) {
+            Map<String, Object> map = PLAIN_CONTEXT.get();
+            if (map == null) {
+                map = new HashMap<>();
+                PLAIN_CONTEXT.set(map);
+            }
+            return map.put(key, value);
+        }
+        final MDCMap map = current();
+        set(map.with(key, value));
+        return map.get(key);
+    }
+
+    @Override
+    public String remove(final String key) {
+        final Object previous = removeObject(key);
+        return previous == null ? null : previous.toString();
+    }
+
+    @Override
+    public Object removeObject(final String key) {
+        if (key == null) {
+            throw new NullPointerException("key is null");
+        }
+        if (!ENABLED) {
+            final Map<String, Object> map = PLAIN_CONTEXT.get();
+            return map == null ? null : map.remove(key);
+        }
+        final MDCMap map = current();
+        set(map.without(key));
+        return map.get(key);
+    }
+
+    @Override
+    public Map<String, String> copy() {
+        final Map<String, Object> map = ENABLED ? current() : plain();
+        final Map<String, String> result = new HashMap<>(Math.max(16, map.size() * 2));
+        map.forEach((key, value) -> result.put(key, value.toString()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> copyObject() {
+        return ENABLED ? current() : new HashMap<>(plain());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ENABLED ? current().isEmpty() : plain().isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        if (ENABLED) {
+            set(MDCMap.EMPTY);
+        } else {
+            PLAIN_CONTEXT.remove();
+        }
+    }
+
+    private static Map<String, Object> plain() {
+        final Map<String, Object> map = PLAIN_CONTEXT.get();
+        return map == null ? Map.of() : map;
+    }
+
+    private static MDCMap current() {
+        final MDCScope scope = ScopedContext.current();
+        return scope == null ? CONTEXT.get() : scope.get();
+    }
+
+    private static void set(final MDCMap map) {
+        final MDCScope scope = ScopedContext.current();
+        if (scope == null) {
+            CONTEXT.set(map);
+        } else {
+            scope.set(map);
+        }
+    }
+
+    private static final class Active {
+        // The log manager selects its provider once, and only this provider returns its own map from copyObject() when
+        // it is enabled
+        static final boolean ACTIVE = MDC.copyObject() instanceof MDCMap;
+    }
+
+    private static final class Holder extends InheritableThreadLocal<MDCMap> {
+
+        @Override
+        protected MDCMap initialValue() {
+            return MDCMap.EMPTY;
+        }
+
+        @Override
+        protected MDCMap childValue(final MDCMap parentValue) {
+            // The map is immutable so the child can share it
+            return parentValue;
+        }
+    }
+
+    private static final class PlainHolder extends InheritableThreadLocal<Map<String, Object>> {
+
+        @Override
+        protected Map<String, Object> childValue(final Map<String, Object> parentValue) {
+            // The map is mutable so the child gets a copy
+            return parentValue == null ? null : new HashMap<>(parentValue);
+        }
+    }
+}
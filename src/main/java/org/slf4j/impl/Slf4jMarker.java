@@ -0,0 +1,356 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Marker;
+
+/**
+ * A marker with a dense integer identifier and a precomputed set of the identifiers of all markers it contains.
+ * <p>
+ * Identifiers are assigned per marker name, so detached markers share the identifier of markers with the same name.
+ * Only the names of markers which are referenced by another marker, or which are used in the marker levels, are
+ * assigned an identifier, and at most {@value #MAX_IDS} identifiers are assigned. The set of contained identifiers is
+ * an immutable bit set which is replaced when the references of this marker, or of any marker it references, change.
+ * This makes {@link #contains(Marker)} and {@link #contains(String)} a bit test.
+ * </p>
+ * <p>
+ * If a marker of another implementation, or a marker without an identifier, is referenced, its references may change
+ * without this marker being notified. In that case the checks fall back to walking the references.
+ * </p>
+ */
+final class Slf4jMarker implements Marker {
+    private static final long serialVersionUID = 4463961467713327454L;
+
+    static final int MAX_IDS = 4096;
+
+    private static final ConcurrentMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final Marker[] NO_REFERENCES = new Marker[0];
+    private static final long[] NO_IDS = new long[0];
+    // Guards changes to the references of all markers
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private final String name;
+    private volatile Marker[] references = NO_REFERENCES;
+    // Assigned while holding LOCK when the marker is first referenced, a stale -1 only skips the bit test
+    private transient int id;
+    // The identifiers of the markers this marker references, directly or transitively, not including its own
+    private transient volatile long[] closure;
+    private transient volatile boolean foreignReferences;
+    // The markers which reference this marker, guarded by LOCK
+    private transient List<WeakReference<Slf4jMarker>> parents;
+    // Set when the marker is detached from the factory, so the factory no longer returns it from its cache
+    transient volatile boolean detached;
+
+    Slf4jMarker(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("A marker name cannot be null");
+        }
+        this.name = name;
+        init();
+    }
+
+    /**
+     * Returns the identifier for the marker name, assigning a new one if required.
+     *
+     * @param name the name of the marker
+     *
+     * @return the identifier or -1 if all the identifiers have been assigned
+     */
+    static int idOf(final String name) {
+        final Integer id = IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (NEXT_ID.get() >= MAX_IDS) {
+            return -1;
+        }
+        final Integer result = IDS.computeIfAbsent(name, ignored -> {
+            final int next = NEXT_ID.getAndIncrement();
+            return next < MAX_IDS ? next : null;
+        });
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * Returns the number of marker names which have been assigned an identifier.
+     *
+     * @return the number of identifiers
+     */
+    static int idCount() {
+        return IDS.size();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void add(final Marker reference) {
+        if (reference == null) {
+            throw new IllegalArgumentException("A null value cannot be added to a Marker as reference.");
+        }
+        LOCK.lock();
+        try {
+            // Avoid duplicates and cycles
+            if (contains(reference) || reference.contains(this)) {
+                return;
+            }
+            if (reference instanceof Slf4jMarker) {
+                final Slf4jMarker marker = (Slf4jMarker) reference;
+                marker.assignId();
+                marker.parents.add(new WeakReference<>(this));
+            }
+            final Marker[] references = this.references;
+            final Marker[] newReferences = Arrays.copyOf(references, references.length + 1);
+            newReferences[references.length] = reference;
+            this.references = newReferences;
+            rebuild();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(final Marker reference) {
+        LOCK.lock();
+        try {
+            final Marker[] references = this.references;
+            for (int i = 0; i < references.length; i++) {
+                if (references[i].equals(reference)) {
+                    final Marker[] newReferences = new Marker[references.length - 1];
+                    System.arraycopy(references, 0, newReferences, 0, i);
+                    System.arraycopy(references, i + 1, newReferences, i, newReferences.length - i);
+                    this.references = newReferences;
+                    if (references[i] instanceof Slf4jMarker) {
+                        ((Slf4jMarker) references[i]).parents.removeIf(ref -> {
+                            final Slf4jMarker parent = ref.get();
+                            return parent == null || parent == this;
+                        });
+                    }
+                    rebuild();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasChildren() {
+        return hasReferences();
+    }
+
+    @Override
+    public boolean hasReferences() {
+        return references.length > 0;
+    }
+
+    @Override
+    public Iterator<Marker> iterator() {
+        return Arrays.asList(references).iterator();
+    }
+
+    @Override
+    public boolean contains(final Marker other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Other cannot be null");
+        }
+        if (other instanceof Slf4jMarker) {
+            final int id = ((Slf4jMarker) other).id;
+            if (id >= 0) {
+                return contains(id, other.getName());
+            }
+        }
+        return contains(other.getName());
+    }
+
+    @Override
+    public boolean contains(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Other cannot be null");
+        }
+        if (this.name.equals(name)) {
+            return true;
+        }
+        // Most markers have no references, so the identifier does not need to be looked up
+        final Integer id = closure.length == 0 ? null : IDS.get(name);
+        if (id == null) {
+            // No marker of this type with the name is referenced, only a marker of another type could be
+            return foreignReferences && walk(name);
+        }
+        return contains(id, name);
+    }
+
+    /**
+     * Checks if this marker contains the marker with the identifier.
+     *
+     * @param id   the identifier of the marker
+     * @param name the name of the marker
+     *
+     * @return {@code true} if the marker is contained, otherwise {@code false}
+     */
+    boolean contains(final int id, final String name) {
+        if (this.name.equals(name)) {
+            return true;
+        }
+        final long[] closure = this.closure;
+        final int word = id >>> 6;
+        if (id >= 0 && word < closure.length && (closure[word] & (1L << id)) != 0) {
+            return true;
+        }
+        return foreignReferences && walk(name);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Marker)) {
+            return false;
+        }
+        return name.equals(((Marker) obj).getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final Marker[] references = this.references;
+        if (references.length == 0) {
+            return name;
+        }
+        final StringBuilder sb = new StringBuilder(name).append(" [ ");
+        for (int i = 0; i < references.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(references[i].getName());
+        }
+        return sb.append(" ]").toString();
+    }
+
+    private boolean walk(final String name) {
+        if (this.name.equals(name)) {
+            return true;
+        }
+        for (Marker reference : references) {
+            if (reference.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void init() {
+        id = -1;
+        parents = new ArrayList<>(0);
+        closure = NO_IDS;
+    }
+
+    // Must be invoked while holding LOCK
+    private void assignId() {
+        if (id < 0) {
+            id = idOf(name);
+        }
+    }
+
+    // Must be invoked while holding LOCK
+    private void rebuild() {
+        closure = computeClosure();
+        final Iterator<WeakReference<Slf4jMarker>> iter = parents.iterator();
+        while (iter.hasNext()) {
+            final Slf4jMarker parent = iter.next().get();
+            if (parent == null) {
+                iter.remove();
+            } else {
+                parent.rebuild();
+            }
+        }
+    }
+
+    private long[] computeClosure() {
+        long[] result = NO_IDS;
+        boolean foreign = false;
+        for (Marker reference : references) {
+            if (reference instanceof Slf4jMarker) {
+                final Slf4jMarker marker = (Slf4jMarker) reference;
+                final long[] other = marker.closure;
+                final int id = marker.id;
+                final int length = Math.max(other.length, id < 0 ? 0 : (id >>> 6) + 1);
+                if (length > result.length) {
+                    result = Arrays.copyOf(result, length);
+                }
+                for (int i = 0; i < other.length; i++) {
+                    result[i] |= other[i];
+                }
+                if (id < 0) {
+                    // All the identifiers have been assigned, the marker can only be found by walking
+                    foreign = true;
+                } else {
+                    result[id >>> 6] |= 1L << id;
+                }
+                foreign |= marker.foreignReferences;
+            } else {
+                foreign = true;
+            }
+        }
+        foreignReferences = foreign;
+        return result;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        LOCK.lock();
+        try {
+            init();
+            for (Marker reference : references) {
+                if (reference instanceof Slf4jMarker) {
+                    final Slf4jMarker marker = (Slf4jMarker) reference;
+                    marker.assignId();
+                    marker.parents.add(new WeakReference<>(this));
+                }
+            }
+            closure = computeClosure();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Marker;
+
+/**
+ * A marker factory which creates markers with integer identifiers and precomputed references. See {@link Slf4jMarker}.
+ */
+public final class Slf4jMarkerFactory implements IMarkerFactory {
+    private static final int CACHE_SIZE = 256;
+
+    private final ConcurrentMap<String, Slf4jMarker> markers = new ConcurrentHashMap<>();
+    // A direct mapped cache in front of the map, racy reads only cost a map lookup
+    private final Slf4jMarker[] cache = new Slf4jMarker[CACHE_SIZE];
+
+    @Override
+    public Marker getMarker(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Marker name cannot be null");
+        }
+        final int index = name.hashCode() & (CACHE_SIZE - 1);
+        final Slf4jMarker cached = cache[index];
+        if (cached != null && !cached.detached && cached.getName().equals(name)) {
+            return cached;
+        }
+        Slf4jMarker marker = markers.get(name);
+        if (marker == null) {
+            marker = new Slf4jMarker(name);
+            final Slf4jMarker appearing = markers.putIfAbsent(name, marker);
+            if (appearing != null) {
+                marker = appearing;
+            }
+        }
+        cache[index] = marker;
+        return marker;
+    }
+
+    @Override
+    public boolean exists(final String name) {
+        return name != null && markers.containsKey(name);
+    }
+
+    @Override
+    public boolean detachMarker(final String name) {
+        if (name == null) {
+            return false;
+        }
+        final Slf4jMarker marker = markers.remove(name);
+        if (marker == null) {
+            return false;
+        }
+        // A concurrent lookup may still put the marker in the cache, the flag prevents it from being returned
+        marker.detached = true;
+        return true;
+    }
+
+    @Override
+    public Marker getDetachedMarker(final String name) {
+        return new Slf4jMarker(name);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A JDK Flight Recorder event for a log call which took longer than the threshold to create the record, format the
+ * message and dispatch it to the handlers. The threshold defaults to 10 ms and can be changed in the recording
+ * settings.
+ * <p>
+ * The event is only created and committed when it is enabled in a recording.
+ * </p>
+ */
+@Name(SlowLogCallEvent.NAME)
+@Label("Slow Log Call")
+@Category({ "Logging", "SLF4J" })
+@Description("A log call whose formatting and dispatch to the handlers exceeded the threshold")
+@Threshold("10 ms")
+final class SlowLogCallEvent extends Event {
+    static final String NAME = "org.jboss.logmanager.slf4j.SlowLogCall";
+
+    @Label("Logger Name")
+    String loggerName;
+
+    @Label("Level")
+    String level;
+
+    @Label("Message Template")
+    String template;
+
+    /**
+     * Ends the event and commits it if it exceeded the threshold.
+     *
+     * @param loggerName the name of the logger
+     * @param level      the level of the call
+     * @param template   the message template of the call
+     */
+    void complete(final String loggerName, final java.util.logging.Level level, final String template) {
+        end();
+        if (shouldCommit()) {
+            this.loggerName = loggerName;
+            this.level = level.getName();
+            this.template = template;
+            commit();
+        }
+    }
+}
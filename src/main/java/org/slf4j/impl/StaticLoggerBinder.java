@@ -27,6 +27,13 @@ public final class StaticLoggerBinder implements LoggerFactoryBinder {
 
     public static final StaticLoggerBinder SINGLETON = new StaticLoggerBinder();
 
+    static {
+        LoggerManifest.start();
+        if (LoggerMetrics.ENABLED) {
+            Slf4jLoggingMetrics.register();
+        }
+    }
+
     /**
      * Declare the version of the SLF4J API this implementation is compiled against.
      * The value of this field is usually modified with each release.
@@ -20,7 +20,6 @@
 package org.slf4j.impl;
 
 import org.slf4j.IMarkerFactory;
-import org.slf4j.helpers.BasicMarkerFactory;
 import org.slf4j.spi.MarkerFactoryBinder;
 
 @Deprecated(forRemoval = true)
@@ -28,7 +27,7 @@ public final class StaticMarkerBinder implements MarkerFactoryBinder {
 
     public static final StaticMarkerBinder SINGLETON = new StaticMarkerBinder();
 
-    private final IMarkerFactory markerFactory = new BasicMarkerFactory();
+    private final IMarkerFactory markerFactory = new Slf4jMarkerFactory();
 
     private StaticMarkerBinder() {
     }
@@ -38,6 +37,6 @@ public final class StaticMarkerBinder implements MarkerFactoryBinder {
     }
 
     public String getMarkerFactoryClassStr() {
-        return BasicMarkerFactory.class.getName();
+        return Slf4jMarkerFactory.class.getName();
     }
 }
@@ -0,0 +1,353 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.ExtLogRecord.FormatStyle;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+
+/**
+ * Replaces the stack trace of repeated exceptions with a single line.
+ * <p>
+ * A throwable is identified by its type, the shape of its message, with numbers, hexadecimal values and UUIDs removed,
+ * and its top stack frames.
+ * The first occurrence within a window is logged with its stack trace. The following occurrences in the window are
+ * logged with a {@link RepeatedThrowable} which refers to the first one. Both carry the {@value #MDC_KEY} MDC entry.
+ * When the window ends a summary of its repeats is logged, either by the next occurrence or by a daemon thread which
+ * flushes the expired windows, so a summary is not held back until the exception recurs.
+ * </p>
+ * <p>
+ * The fingerprints are kept in a bounded map in access order, the least recently seen fingerprint is evicted when the
+ * map is full. A fingerprint holds the name of the exception type rather than the class, and an occurrence holds the
+ * name of the logger and a weak reference to its log context rather than the logger, so neither prevents a class loader
+ * or a log context from being reclaimed.
+ * </p>
+ */
+final class ThrowableDeduplicator {
+    /**
+     * The MDC key of the record which holds the exception id.
+     */
+    static final String MDC_KEY = "exceptionId";
+
+    static final ThrowableDeduplicator INSTANCE = create();
+
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final int FRAMES = 5;
+    private static final int UUID_LENGTH = 36;
+
+    private final long window;
+    private final int maxSize;
+    private final Map<Fingerprint, Occurrence> occurrences;
+    // Guards the occurrences, an access ordered map is changed by reads
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong ids = new AtomicLong();
+
+    ThrowableDeduplicator(final long windowMillis, final int maxSize) {
+        this.window = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxSize = Math.max(1, maxSize);
+        this.occurrences = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Fingerprint, Occurrence> eldest) {
+                return size() > ThrowableDeduplicator.this.maxSize;
+            }
+        };
+    }
+
+    private static ThrowableDeduplicator create() {
+        final long window = Long.getLong("org.jboss.logmanager.slf4j.exceptionDedupWindow", 0L);
+        if (window <= 0L) {
+            return null;
+        }
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(window,
+                Integer.getInteger("org.jboss.logmanager.slf4j.exceptionDedupCacheSize", DEFAULT_CACHE_SIZE));
+        final Thread thread = new Thread(deduplicator::run, "slf4j-exception-dedup");
+        thread.setDaemon(true);
+        thread.start();
+        return deduplicator;
+    }
+
+    private void run() {
+        for (;;) {
+            LockSupport.parkNanos(window);
+            flush(System.nanoTime());
+        }
+    }
+
+    /**
+     * Returns the throwable to log. A summary of the previous window is logged to the logger first if a new window
+     * starts.
+     *
+     * @param logger the logger the record is logged to
+     * @param rec    the record
+     * @param t      the throwable of the record
+     *
+     * @return the throwable or a {@link RepeatedThrowable} if the throwable is a repeat
+     */
+    Throwable deduplicate(final Logger logger, final ExtLogRecord rec, final Throwable t) {
+        final long now = System.nanoTime();
+        final Fingerprint fingerprint = new Fingerprint(t);
+        Occurrence occurrence;
+        Occurrence created = null;
+        lock.lock();
+        try {
+            // Reading the map moves the fingerprint to the end, so the least recently seen is evicted first
+            occurrence = occurrences.get(fingerprint);
+            if (occurrence == null) {
+                occurrence = created = new Occurrence(ids.incrementAndGet(), t.toString(), now);
+                occurrences.put(fingerprint, created);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (occurrence == created) {
+            rec.putMdc(MDC_KEY, created.id);
+            return t;
+        }
+        final long start = occurrence.windowStart.get();
+        if (now - start >= window && occurrence.windowStart.compareAndSet(start, now)) {
+            summarize(occurrence, logger, rec.getLevel(), rec.getLoggerClassName(), now - start);
+            rec.putMdc(MDC_KEY, occurrence.id);
+            return t;
+        }
+        // The summary is logged to the logger of the last repeat
+        final LogContext logContext = logger.getLogContext();
+        final WeakReference<LogContext> logContextRef = occurrence.logContext;
+        if (logContextRef == null || logContextRef.get() != logContext) {
+            occurrence.logContext = new WeakReference<>(logContext);
+        }
+        occurrence.loggerName = logger.getName();
+        occurrence.level = rec.getLevel();
+        occurrence.loggerClassName = rec.getLoggerClassName();
+        final long repeats = occurrence.repeats.incrementAndGet();
+        rec.putMdc(MDC_KEY, occurrence.id);
+        return new RepeatedThrowable(t, occurrence.id, repeats);
+    }
+
+    /**
+     * Logs the summary of each window which has ended. The window is left expired, so the next occurrence is logged
+     * with its stack trace as the first of a new window.
+     *
+     * @param now the current {@linkplain System#nanoTime() time}
+     */
+    void flush(final long now) {
+        final List<Occurrence> values;
+        lock.lock();
+        try {
+            values = new ArrayList<>(occurrences.values());
+        } finally {
+            lock.unlock();
+        }
+        for (Occurrence occurrence : values) {
+            final long start = occurrence.windowStart.get();
+            if (now - start >= window && occurrence.repeats.get() > 0L
+                    && occurrence.windowStart.compareAndSet(start, now - window)) {
+                summarize(occurrence, occurrence.logger(), occurrence.level, occurrence.loggerClassName,
+                        now - start);
+            }
+        }
+    }
+
+    private static void summarize(final Occurrence occurrence, final Logger logger, final Level level,
+            final String loggerClassName, final long elapsed) {
+        final long repeats = occurrence.repeats.getAndSet(0L);
+        if (repeats > 0L && logger != null) {
+            final ExtLogRecord summary = new ExtLogRecord(level,
+                    String.format("Exception #%s was repeated %d times in the last %d ms: %s", occurrence.id,
+                            repeats, TimeUnit.NANOSECONDS.toMillis(elapsed), occurrence.description),
+                    FormatStyle.NO_FORMAT, loggerClassName);
+            summary.disableCallerCalculation();
+            summary.putMdc(MDC_KEY, occurrence.id);
+            logger.logRaw(summary);
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return occurrences.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Occurrence {
+        final String id;
+        final String description;
+        final AtomicLong windowStart;
+        final AtomicLong repeats = new AtomicLong();
+        volatile WeakReference<LogContext> logContext;
+        volatile String loggerName;
+        volatile Level level;
+        volatile String loggerClassName;
+
+        Occurrence(final long id, final String description, final long now) {
+            this.id = Long.toString(id);
+            this.description = description;
+            this.windowStart = new AtomicLong(now);
+        }
+
+        /**
+         * Resolves the logger of the last repeat.
+         *
+         * @return the logger or {@code null} if there was no repeat or its log context has been reclaimed
+         */
+        Logger logger() {
+            final WeakReference<LogContext> logContextRef = this.logContext;
+            final LogContext logContext = logContextRef == null ? null : logContextRef.get();
+            final String loggerName = this.loggerName;
+            return logContext == null || loggerName == null ? null : logContext.getLogger(loggerName);
+        }
+    }
+
+    private static final class Fingerprint {
+        private final String type;
+        private final String message;
+        private final StackTraceElement[] frames;
+        private final int hashCode;
+
+        Fingerprint(final Throwable t) {
+            type = t.getClass().getName();
+            message = shape(t.getMessage());
+            final StackTraceElement[] stackTrace = t.getStackTrace();
+            frames = stackTrace.length > FRAMES ? Arrays.copyOf(stackTrace, FRAMES) : stackTrace;
+            hashCode = (type.hashCode() * 31 + message.hashCode()) * 31 + Arrays.hashCode(frames);
+        }
+
+        /**
+         * Returns the message with each UUID, hexadecimal value and number replaced with {@code #}. A word is a
+         * hexadecimal value if it contains a digit, or starts with {@code 0x}, and only contains hexadecimal digits, so
+         * words such as {@code face} are kept. The digits of other words are replaced, e.g. {@code user42} becomes
+         * {@code user#}.
+         */
+        private static String shape(final String message) {
+            if (message == null) {
+                return "";
+            }
+            final int length = message.length();
+            final StringBuilder sb = new StringBuilder(length);
+            int i = 0;
+            while (i < length) {
+                if (!Character.isLetterOrDigit(message.charAt(i))) {
+                    sb.append(message.charAt(i++));
+                } else if (isUuid(message, i)) {
+                    sb.append('#');
+                    i += UUID_LENGTH;
+                } else {
+                    int end = i + 1;
+                    while (end < length && Character.isLetterOrDigit(message.charAt(end))) {
+                        end++;
+                    }
+                    if (isHex(message, i, end)) {
+                        sb.append('#');
+                    } else {
+                        appendWithoutDigits(sb, message, i, end);
+                    }
+                    i = end;
+                }
+            }
+            return sb.toString();
+        }
+
+        private static boolean isUuid(final String message, final int start) {
+            final int end = start + UUID_LENGTH;
+            if (end > message.length() || end < message.length() && Character.isLetterOrDigit(message.charAt(end))) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                final int offset = i - start;
+                final char c = message.charAt(i);
+                if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+                    if (c != '-') {
+                        return false;
+                    }
+                } else if (Character.digit(c, 16) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isHex(final String message, final int start, final int end) {
+            int i = start;
+            boolean digit = false;
+            if (end - start > 2 && message.charAt(start) == '0'
+                    && (message.charAt(start + 1) == 'x' || message.charAt(start + 1) == 'X')) {
+                i += 2;
+                digit = true;
+            }
+            for (; i < end; i++) {
+                final char c = message.charAt(i);
+                if (Character.digit(c, 16) < 0) {
+                    return false;
+                }
+                digit |= Character.isDigit(c);
+            }
+            return digit;
+        }
+
+        private static void appendWithoutDigits(final StringBuilder sb, final String message, final int start,
+                final int end) {
+            boolean digits = false;
+            for (int i = start; i < end; i++) {
+                final char c = message.charAt(i);
+                if (Character.isDigit(c)) {
+                    if (!digits) {
+                        sb.append('#');
+                        digits = true;
+                    }
+                } else {
+                    sb.append(c);
+                    digits = false;
+                }
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+            final Fingerprint other = (Fingerprint) obj;
+            return hashCode == other.hashCode && type.equals(other.type) && message.equals(other.message)
+                    && Arrays.equals(frames, other.frames);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Binds an {@link MDCScope} to a {@link ScopedValue} for the duration of a task.
+ * <p>
+ * The scope is inherited by the subtasks of a {@link java.util.concurrent.StructuredTaskScope} opened in the task. The
+ * {@link Slf4jMDCProvider} reads the bound scope, so the values are visible to formatters without a per-thread map.
+ * If the log manager does not use the {@link Slf4jMDCProvider} the MDC of the scope is installed on the current thread
+ * instead.
+ * </p>
+ */
+final class ScopedContext {
+    private static final ScopedValue<MDCScope> SCOPE = ScopedValue.newInstance();
+
+    private ScopedContext() {
+    }
+
+    /**
+     * Returns the scope bound to the current thread.
+     *
+     * @return the scope or {@code null} if no scope is bound
+     */
+    static MDCScope current() {
+        return SCOPE.isBound() ? SCOPE.get() : null;
+    }
+
+    /**
+     * Indicates whether a scope is bound to a scoped value while the log manager uses the {@link Slf4jMDCProvider}.
+     *
+     * @return {@code true} as scoped values are available
+     */
+    static boolean isScoped() {
+        return true;
+    }
+
+    static void run(final MDCMap map, final Runnable task) {
+        if (Slf4jMDCProvider.isActive()) {
+            final MDCScope scope = new MDCScope(map);
+            try {
+                ScopedValue.where(SCOPE, scope).run(task);
+            } finally {
+                scope.exit();
+            }
+            return;
+        }
+        final Map<String, Object> previous = Slf4jMDCProvider.restore(map);
+        try {
+            task.run();
+        } finally {
+            Slf4jMDCProvider.restore(previous);
+        }
+    }
+
+    static <T> T call(final MDCMap map, final Callable<T> task) throws Exception {
+        if (Slf4jMDCProvider.isActive()) {
+            final MDCScope scope = new MDCScope(map);
+            try {
+                return ScopedValue.where(SCOPE, scope).call(task::call);
+            } finally {
+                scope.exit();
+            }
+        }
+        final Map<String, Object> previous = Slf4jMDCProvider.restore(map);
+        try {
+            return task.call();
+        } finally {
+            Slf4jMDCProvider.restore(previous);
+        }
+    }
+}
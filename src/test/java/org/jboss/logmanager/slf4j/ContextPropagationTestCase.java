@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.NDC;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class ContextPropagationTestCase {
+    private static ExecutorService delegate;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void createExecutor() {
+        delegate = Executors.newSingleThreadExecutor();
+        executor = ContextPropagation.wrap(delegate);
+    }
+
+    @AfterAll
+    public static void shutdown() throws Exception {
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    public void clearContext() {
+        MDC.clear();
+        NDC.clear();
+    }
+
+    @Test
+    public void testSubmit() throws Exception {
+        MDC.put("request", "1");
+        NDC.push("outer");
+        Assertions.assertEquals("1 outer", executor.submit(ContextPropagationTestCase::describe).get());
+
+        MDC.put("request", "2");
+        NDC.clear();
+        Assertions.assertEquals("2 ", executor.submit(ContextPropagationTestCase::describe).get());
+    }
+
+    @Test
+    public void testWorkerContextRestored() throws Exception {
+        delegate.submit(() -> {
+            // The worker may have inherited the context of the thread which created it
+            MDC.clear();
+            NDC.clear();
+            MDC.put("worker", "value");
+            NDC.push("worker");
+        }).get();
+        MDC.put("request", "1");
+        executor.submit(() -> {
+            Assertions.assertNull(MDC.get("worker"));
+            Assertions.assertEquals("", NDC.get());
+        }).get();
+        final Callable<String> worker = () -> MDC.get("worker") + " " + MDC.get("request") + " " + NDC.get();
+        Assertions.assertEquals("value null worker", delegate.submit(worker).get());
+    }
+
+    @Test
+    public void testInvokeAll() throws Exception {
+        MDC.put("request", "1");
+        final Callable<String> task = ContextPropagationTestCase::describe;
+        for (var future : executor.invokeAll(List.of(task, task))) {
+            Assertions.assertEquals("1 ", future.get());
+        }
+    }
+
+    @Test
+    public void testCompletableFuture() throws Exception {
+        MDC.put("request", "1");
+        final CompletableFuture<String> future = CompletableFuture
+                .supplyAsync(ContextPropagation.wrapSupplier(ContextPropagationTestCase::describe))
+                .thenApplyAsync(value -> value + describe(), executor);
+        Assertions.assertEquals("1 1 ", future.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        final ScheduledExecutorService scheduled = ContextPropagation
+                .wrap(Executors.newSingleThreadScheduledExecutor());
+        try {
+            MDC.put("request", "1");
+            NDC.push("outer");
+            Assertions.assertEquals("1 outer",
+                    scheduled.schedule(ContextPropagationTestCase::describe, 10, TimeUnit.MILLISECONDS).get());
+
+            final CountDownLatch latch = new CountDownLatch(3);
+            final Queue<String> contexts = new ConcurrentLinkedQueue<>();
+            final ScheduledFuture<?> future = scheduled.scheduleAtFixedRate(() -> {
+                contexts.add(describe());
+                latch.countDown();
+            }, 0, 10, TimeUnit.MILLISECONDS);
+            MDC.put("request", "2");
+            Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            future.cancel(false);
+            for (String context : contexts) {
+                Assertions.assertEquals("1 outer", context, "Each run should have the context of the scheduling thread");
+            }
+        } finally {
+            scheduled.shutdown();
+            Assertions.assertTrue(scheduled.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        final ExecutorService wrapped = ContextPropagation.wrap(Executors.newSingleThreadExecutor());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        wrapped.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignore) {
+            }
+        });
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        final Runnable pending = () -> {
+        };
+        wrapped.execute(pending);
+        Assertions.assertEquals(List.of(pending), wrapped.shutdownNow(), "The original task should be returned");
+        release.countDown();
+        Assertions.assertTrue(wrapped.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static String describe() {
+        return MDC.get("request") + " " + NDC.get();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+
+public class KeyValueJsonFormatterTestCase {
+
+    @Test
+    public void testKeyValuePairs() throws Exception {
+        final RecordingFormatter formatter = new RecordingFormatter();
+        formatter.after(new TestRecord(List.of(new KeyValuePair("count", 42), new KeyValuePair("total", 7L),
+                new KeyValuePair("name", "value"), new KeyValuePair("ratio", 0.5))));
+        Assertions.assertEquals(List.of("start:keyValues", "count=42", "total=7L", "name=\"value\"", "ratio=\"0.5\"", "end"),
+                formatter.events);
+    }
+
+    @Test
+    public void testNoKeyValuePairs() throws Exception {
+        final RecordingFormatter formatter = new RecordingFormatter();
+        formatter.after(new TestRecord(List.of()));
+        formatter.after(new ExtLogRecord(Level.INFO, "test", KeyValueJsonFormatterTestCase.class.getName()));
+        Assertions.assertTrue(formatter.events.isEmpty());
+    }
+
+    private static class TestRecord extends ExtLogRecord implements KeyValueRecord {
+        private final List<KeyValuePair> keyValuePairs;
+
+        TestRecord(final List<KeyValuePair> keyValuePairs) {
+            super(Level.INFO, "test", KeyValueJsonFormatterTestCase.class.getName());
+            this.keyValuePairs = keyValuePairs;
+        }
+
+        @Override
+        public List<KeyValuePair> getKeyValuePairs() {
+            return keyValuePairs;
+        }
+    }
+
+    private static class RecordingFormatter extends KeyValueJsonFormatter {
+        final List<String> events = new ArrayList<>();
+
+        void after(final ExtLogRecord record) throws Exception {
+            after(new RecordingGenerator(), record);
+        }
+
+        private class RecordingGenerator implements Generator {
+            @Override
+            public Generator add(final String key, final int value) {
+                events.add(key + "=" + value);
+                return this;
+            }
+
+            @Override
+            public Generator add(final String key, final long value) {
+                events.add(key + "=" + value + "L");
+                return this;
+            }
+
+            @Override
+            public Generator add(final String key, final Map<String, ?> value) {
+                events.add(key + "=" + value);
+                return this;
+            }
+
+            @Override
+            public Generator add(final String key, final String value) {
+                events.add(key + "=\"" + value + "\"");
+                return this;
+            }
+
+            @Override
+            public Generator startObject(final String key) {
+                events.add("start:" + key);
+                return this;
+            }
+
+            @Override
+            public Generator endObject() {
+                events.add("end");
+                return this;
+            }
+
+            @Override
+            public Generator end() {
+                return this;
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.logmanager.MDC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+public class MDCSnapshotTestCase {
+    private static final boolean MDC_PROVIDER = Boolean.getBoolean("org.jboss.logmanager.slf4j.mdcProvider");
+
+    @AfterEach
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    public void testCaptureRestore() {
+        MDC.put("one", "1");
+        final MDCSnapshot snapshot = MDCSnapshot.capture();
+        MDC.put("two", "2");
+        MDC.put("one", "changed");
+        Assertions.assertEquals(Map.of("one", "1"), snapshot.asMap(), "The snapshot should not change");
+
+        final MDCSnapshot previous = snapshot.restore();
+        Assertions.assertEquals("1", MDC.get("one"));
+        Assertions.assertNull(MDC.get("two"));
+        Assertions.assertEquals(Map.of("one", "changed", "two", "2"), previous.asMap());
+
+        previous.restore();
+        Assertions.assertEquals("changed", MDC.get("one"));
+        Assertions.assertEquals("2", MDC.get("two"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.asMap().put("three", "3"));
+    }
+
+    @Test
+    public void testSharedStorage() {
+        Assumptions.assumeTrue(MDC_PROVIDER, "The MDC provider of the binding is not enabled");
+        MDC.put("one", "1");
+        final MDCSnapshot snapshot = MDCSnapshot.capture();
+        Assertions.assertSame(snapshot.asMap(), MDCSnapshot.capture().asMap(),
+                "Capturing an unchanged context should not copy it");
+        Assertions.assertSame(snapshot.asMap(), snapshot.restore().asMap());
+        Assertions.assertSame(snapshot.asMap(), MDC.copyObject());
+    }
+
+    @Test
+    public void testOf() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("one", 1);
+        map.put("two", null);
+        final MDCSnapshot snapshot = MDCSnapshot.of(map);
+        Assertions.assertEquals(Map.of("one", 1), snapshot.asMap());
+        snapshot.restore();
+        Assertions.assertEquals(1, MDC.getObject("one"));
+        Assertions.assertEquals("1", MDC.get("one"));
+    }
+
+    @Test
+    public void testInheritance() throws Exception {
+        MDC.put("one", "1");
+        final AtomicReference<Map<String, Object>> child = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            child.set(MDC.copyObject());
+            MDC.put("two", "2");
+        });
+        thread.start();
+        thread.join();
+        Assertions.assertEquals(Map.of("one", "1"), child.get());
+        Assertions.assertNull(MDC.get("two"), "Changes on the child thread should not be seen by the parent");
+    }
+
+    @Test
+    public void testRemove() {
+        MDC.put("one", "1");
+        MDC.put("two", "2");
+        MDC.put("three", "3");
+        Assertions.assertEquals("2", MDC.remove("two"));
+        Assertions.assertNull(MDC.remove("two"));
+        Assertions.assertEquals(Map.of("one", "1", "three", "3"), MDC.copy());
+        MDC.clear();
+        Assertions.assertTrue(MDC.isEmpty());
+    }
+}
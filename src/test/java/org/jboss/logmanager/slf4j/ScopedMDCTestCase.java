@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.logmanager.slf4j;
+
+import java.util.Map;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+import org.jboss.logmanager.MDC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ScopedMDCTestCase {
+
+    @AfterEach
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    public void testRun() {
+        MDC.put("outer", "value");
+        ScopedMDC.with("request", "1").and("user", "test").run(() -> {
+            Assertions.assertEquals("1", MDC.get("request"));
+            Assertions.assertEquals("test", MDC.get("user"));
+            Assertions.assertEquals("value", MDC.get("outer"));
+            MDC.put("inner", "value");
+            MDC.remove("outer");
+            Assertions.assertEquals(Map.of("request", "1", "user", "test", "inner", "value"), MDC.copy());
+        });
+        Assertions.assertEquals(Map.of("outer", "value"), MDC.copy(), "Changes within the scope should be discarded");
+    }
+
+    @Test
+    public void testNested() throws Exception {
+        final String result = ScopedMDC.with(Map.of("request", "1", "user", "test")).call(
+                () -> ScopedMDC.with("request", "2").call(() -> MDC.get("request") + " " + MDC.get("user")));
+        Assertions.assertEquals("2 test", result);
+        Assertions.assertTrue(MDC.isEmpty());
+    }
+
+    @Test
+    public void testFormatterVisibility() throws Exception {
+        final LogContext logContext = LogContext.create();
+        final Logger logger = logContext.getLogger(ScopedMDCTestCase.class.getName());
+        final ExtLogRecord[] records = new ExtLogRecord[1];
+        logger.addHandler(new ExtHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                record.copyMdc();
+                records[0] = record;
+            }
+        });
+        try {
+            ScopedMDC.with("request", "1").run(() -> logger.info("Test message"));
+            Assertions.assertNotNull(records[0]);
+            Assertions.assertEquals("1", records[0].getMdc("request"));
+        } finally {
+            logContext.close();
+        }
+    }
+}
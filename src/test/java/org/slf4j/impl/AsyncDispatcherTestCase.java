@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.MDC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncDispatcherTestCase {
+    private static final String FQCN = AsyncDispatcherTestCase.class.getName();
+
+    private LogContext logContext;
+    private QueueHandler handler;
+    private Slf4jLogger logger;
+
+    @BeforeEach
+    public void setup() {
+        logContext = LogContext.create();
+        handler = new QueueHandler();
+        final org.jboss.logmanager.Logger lmLogger = logContext.getLogger(AsyncDispatcherTestCase.class.getName());
+        lmLogger.addHandler(handler);
+        logger = new Slf4jLogger(lmLogger);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        MDC.clear();
+        handler.close();
+        logContext.close();
+    }
+
+    @Test
+    public void testHandOff() throws Exception {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(16, AsyncDispatcher.Overflow.BLOCK);
+        dispatcher.start();
+        MDC.put("request", "42");
+        final RuntimeException e = new RuntimeException("Test exception");
+        Assertions.assertTrue(enqueue(dispatcher, Level.INFO, "Test {}", "value", e));
+        MDC.clear();
+        dispatcher.close();
+
+        final ExtLogRecord record = handler.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Test value", record.getFormattedMessage());
+        Assertions.assertEquals(Level.INFO, record.getLevel());
+        Assertions.assertSame(e, record.getThrown());
+        Assertions.assertEquals(Thread.currentThread().getName(), record.getThreadName());
+        Assertions.assertEquals(Thread.currentThread().getId(), record.getLongThreadID());
+        Assertions.assertEquals("42", record.getMdc("request"));
+        if (!CallerResolver.ENABLED) {
+            // The caller cannot be calculated on the dispatcher thread
+            Assertions.assertNull(record.getSourceClassName());
+        }
+
+        // Once closed events must be logged on the calling thread
+        Assertions.assertFalse(enqueue(dispatcher, Level.INFO, "Closed"));
+    }
+
+    @Test
+    public void testDropBelowWarn() {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(2, AsyncDispatcher.Overflow.DROP_BELOW_WARN);
+        Assertions.assertTrue(enqueue(dispatcher, Level.INFO, "1"));
+        Assertions.assertTrue(enqueue(dispatcher, Level.INFO, "2"));
+        Assertions.assertEquals(2, dispatcher.getPending());
+        Assertions.assertTrue(enqueue(dispatcher, Level.INFO, "3"));
+        Assertions.assertEquals(1, dispatcher.getDroppedBelowWarn());
+        Assertions.assertEquals(2, dispatcher.drain());
+        Assertions.assertEquals(List.of("1", "2"), messages());
+    }
+
+    @Test
+    public void testDropOldest() {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(2, AsyncDispatcher.Overflow.DROP_OLDEST);
+        for (int i = 1; i <= 5; i++) {
+            Assertions.assertTrue(enqueue(dispatcher, Level.WARN, Integer.toString(i)));
+        }
+        Assertions.assertEquals(3, dispatcher.getDroppedOldest());
+        Assertions.assertEquals(2, dispatcher.drain());
+        Assertions.assertEquals(List.of("4", "5"), messages());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final int threads = 4;
+        final int events = 2000;
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(8, AsyncDispatcher.Overflow.BLOCK);
+        dispatcher.start();
+        final List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final String prefix = "producer" + t + "-";
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < events; i++) {
+                    enqueue(dispatcher, Level.INFO, prefix + i);
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        dispatcher.close();
+        final Set<String> messages = new HashSet<>(messages());
+        Assertions.assertEquals(threads * events, messages.size());
+        Assertions.assertEquals(0, dispatcher.getPending());
+    }
+
+    private boolean enqueue(final AsyncDispatcher dispatcher, final Level level, final String format,
+            final Object... arguments) {
+        final Throwable t = org.slf4j.helpers.MessageFormatter.getThrowableCandidate(arguments);
+        return dispatcher.enqueue(logger, null, level, FQCN, format, arguments, t, t != null, null, 0L);
+    }
+
+    private List<String> messages() {
+        final List<String> messages = new ArrayList<>();
+        ExtLogRecord record;
+        while ((record = handler.messages.poll()) != null) {
+            messages.add(record.getFormattedMessage());
+        }
+        return messages;
+    }
+}
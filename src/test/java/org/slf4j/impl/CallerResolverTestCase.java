@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CallerResolverTestCase {
+
+    @Test
+    public void testResolve() {
+        final int line = currentLine() + 1;
+        final CallerResolver.CallSite callSite = Facade.log();
+        Assertions.assertEquals(CallerResolverTestCase.class.getName(), callSite.getClassName());
+        Assertions.assertEquals("testResolve", callSite.getMethodName());
+        Assertions.assertEquals("CallerResolverTestCase.java", callSite.getFileName());
+        Assertions.assertEquals(line, callSite.getLineNumber());
+
+        final ExtLogRecord record = new ExtLogRecord(Level.INFO, "Test", Facade.class.getName());
+        callSite.apply(record);
+        Assertions.assertEquals(CallerResolverTestCase.class.getName(), record.getSourceClassName());
+        Assertions.assertEquals("testResolve", record.getSourceMethodName());
+        Assertions.assertEquals(line, record.getSourceLineNumber());
+    }
+
+    @Test
+    public void testCallSiteCache() {
+        CallerResolver.CallSite first = null;
+        for (int i = 0; i < 3; i++) {
+            final CallerResolver.CallSite callSite = Facade.log();
+            if (first == null) {
+                first = callSite;
+            } else {
+                Assertions.assertSame(first, callSite, "Expected the call site to be cached");
+            }
+        }
+        Assertions.assertNotSame(first, Facade.log(), "Expected a different call site for a different line");
+    }
+
+    @Test
+    public void testNestedFacade() {
+        // Frames of the logger class name which call each other must all be skipped
+        final CallerResolver.CallSite callSite = Facade.nested();
+        Assertions.assertEquals(CallerResolverTestCase.class.getName(), callSite.getClassName());
+        Assertions.assertEquals("testNestedFacade", callSite.getMethodName());
+    }
+
+    @Test
+    public void testUnknown() {
+        Assertions.assertSame(CallerResolver.CallSite.UNKNOWN, CallerResolver.resolve("org.jboss.logmanager.Unknown"));
+    }
+
+    private static int currentLine() {
+        return StackWalker.getInstance().walk(frames -> frames.skip(1).findFirst().orElseThrow().getLineNumber());
+    }
+
+    private static final class Facade {
+        static CallerResolver.CallSite log() {
+            return CallerResolver.resolve(Facade.class.getName());
+        }
+
+        static CallerResolver.CallSite nested() {
+            return log();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests for the JDK Flight Recorder events.
+ */
+public class FlightRecorderEventsTestCase {
+    private static final String LOGGER_NAME = FlightRecorderEventsTestCase.class.getName();
+
+    private LogContext logContext;
+    private QueueHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        logContext = LogContext.create();
+        handler = new QueueHandler();
+        final org.jboss.logmanager.Logger lmLogger = logContext.getLogger(LOGGER_NAME);
+        lmLogger.addHandler(handler);
+        lmLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        handler.close();
+        logContext.close();
+    }
+
+    @Test
+    public void testSlowLogCall() throws Exception {
+        final Slf4jLogger logger = new Slf4jLogger(logContext.getLogger(LOGGER_NAME));
+        final List<RecordedEvent> events = record(SlowLogCallEvent.NAME, () -> {
+            logger.info("Fast {}", 1);
+            logContext.getLogger(LOGGER_NAME).addHandler(new QueueHandler() {
+                @Override
+                protected void doPublish(final org.jboss.logmanager.ExtLogRecord record) {
+                    try {
+                        Thread.sleep(20L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            logger.warn("Slow {}", 2);
+        }, Duration.ofMillis(10L));
+        Assertions.assertEquals(1, events.size());
+        final RecordedEvent event = events.get(0);
+        Assertions.assertEquals(LOGGER_NAME, event.getString("loggerName"));
+        Assertions.assertEquals("WARN", event.getString("level"));
+        Assertions.assertEquals("Slow {}", event.getString("template"));
+        Assertions.assertTrue(event.getDuration().toMillis() >= 20L);
+    }
+
+    @Test
+    public void testSamplingDropped() throws Exception {
+        final Slf4jLogger logger = new Slf4jLogger(logContext.getLogger(LOGGER_NAME), MarkerLevels.parse(null),
+                Sampling.parse("INFO=sample:4"));
+        final List<RecordedEvent> events = record(LogDroppedEvent.NAME, () -> {
+            for (int i = 0; i < 8; i++) {
+                logger.info("Sampled {}", i);
+            }
+        }, Duration.ZERO);
+        Assertions.assertEquals(6, events.size());
+        for (RecordedEvent event : events) {
+            Assertions.assertEquals(LOGGER_NAME, event.getString("loggerName"));
+            Assertions.assertEquals("INFO", event.getString("level"));
+            Assertions.assertEquals("Sampled {}", event.getString("template"));
+            Assertions.assertEquals(LogDroppedEvent.SAMPLING, event.getString("reason"));
+        }
+        Assertions.assertEquals(2, handler.messages.size());
+    }
+
+    @Test
+    public void testLoggerCreated() throws Exception {
+        final String name = LOGGER_NAME + ".created";
+        final List<RecordedEvent> events = record(LoggerCreatedEvent.NAME, () -> {
+            Slf4jLoggerFactory.getLogger(logContext, name);
+            // A cached logger is not reported again
+            Slf4jLoggerFactory.getLogger(logContext, name);
+        }, Duration.ZERO);
+        final List<String> names = events.stream()
+                .map(event -> event.getString("loggerName"))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(List.of(name), names);
+    }
+
+    @Test
+    public void testDisabled() {
+        // Without a recording the events are not committed and logging is unaffected
+        final Slf4jLogger logger = new Slf4jLogger(logContext.getLogger(LOGGER_NAME), MarkerLevels.parse(null),
+                Sampling.parse("INFO=sample:2"));
+        logger.info("One");
+        logger.info("Two");
+        Assertions.assertFalse(new SlowLogCallEvent().isEnabled());
+        Assertions.assertFalse(new LogDroppedEvent().isEnabled());
+        // No event is allocated while the event types are disabled
+        Assertions.assertNull(FlightRecorderEvents.beginSlowLogCall());
+        Assertions.assertNull(FlightRecorderEvents.beginLoggerCreated());
+        Assertions.assertEquals(1, handler.messages.size());
+    }
+
+    private static List<RecordedEvent> record(final String eventName, final Runnable task, final Duration threshold)
+            throws Exception {
+        final Path file = Files.createTempFile("slf4j-jfr", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(eventName).withThreshold(threshold).withoutStackTrace();
+                recording.start();
+                task.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.slf4j.FormattableRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the garbage-free mode. These tests only run in the {@code garbage-free} surefire execution, which enables
+ * the mode.
+ */
+public class GarbageFreeTestCase {
+    private static final String LOGGER_NAME = GarbageFreeTestCase.class.getName();
+
+    private LogContext logContext;
+    private org.jboss.logmanager.Logger lmLogger;
+
+    @BeforeEach
+    public void setup() {
+        Assumptions.assumeTrue(ReusableLogRecord.ENABLED, "The garbage-free mode is not enabled");
+        logContext = LogContext.create();
+        lmLogger = logContext.getLogger(LOGGER_NAME);
+        lmLogger.setLevel(Level.INFO);
+        lmLogger.setUseParentHandlers(false);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        if (logContext != null) {
+            logContext.close();
+        }
+    }
+
+    @Test
+    public void testSteadyStateAllocation() throws Exception {
+        // The extended ThreadMXBean is used reflectively as the module does not read jdk.management
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final Class<?> extended = Class.forName("com.sun.management.ThreadMXBean");
+        Assumptions.assumeTrue(extended.isInstance(threads), "Allocation counting is not supported");
+        final Method allocatedBytes = extended.getMethod("getThreadAllocatedBytes", long.class);
+        final long threadId = Thread.currentThread().getId();
+        final FormattingHandler handler = new FormattingHandler();
+        lmLogger.addHandler(handler);
+        final Slf4jLogger logger = new Slf4jLogger(lmLogger);
+        final String arg1 = "one";
+        final String arg2 = "two";
+        final int calls = 50_000;
+
+        // Allow the JIT to compile the logging path, then measure until a round is free of allocations
+        long perCall = Long.MAX_VALUE;
+        for (int round = 0; round < 40 && perCall != 0L; round++) {
+            final long before = (Long) allocatedBytes.invoke(threads, threadId);
+            for (int i = 0; i < calls; i++) {
+                logger.info("Message");
+                logger.info("Value {}", arg1);
+                logger.warn("Values {} and {}", arg1, arg2);
+            }
+            perCall = ((Long) allocatedBytes.invoke(threads, threadId) - before) / (calls * 3L);
+        }
+        Assertions.assertEquals(0L, perCall, "Bytes allocated per steady-state call");
+        Assertions.assertEquals("Values one and two", handler.message.toString());
+        Assertions.assertTrue(handler.count > 0L);
+    }
+
+    @Test
+    public void testReuse() {
+        final List<ExtLogRecord> records = new ArrayList<>();
+        final List<String> messages = new ArrayList<>();
+        lmLogger.addHandler(new ExtHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                records.add(record);
+                messages.add(record.getFormattedMessage());
+            }
+        });
+        final Slf4jLogger logger = new Slf4jLogger(lmLogger);
+        logger.info("First {}", 1);
+        logger.info("Second {} {}", 2, 3);
+        Assertions.assertEquals(List.of("First 1", "Second 2 3"), messages);
+        Assertions.assertSame(records.get(0), records.get(1));
+        Assertions.assertInstanceOf(ReusableLogRecord.class, records.get(0));
+        // The record holds no references once released
+        Assertions.assertNull(records.get(0).getParameters());
+    }
+
+    @Test
+    public void testReentrantLogging() {
+        final List<String> messages = new ArrayList<>();
+        lmLogger.addHandler(new ExtHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                messages.add(record.getFormattedMessage());
+            }
+        });
+        final Slf4jLogger logger = new Slf4jLogger(lmLogger);
+        final Object reentrant = new Object() {
+            @Override
+            public String toString() {
+                logger.info("Inner {}", "value");
+                return "outer value";
+            }
+        };
+        logger.info("Outer {} {}", reentrant, "done");
+        Assertions.assertEquals(List.of("Inner value", "Outer outer value done"), messages);
+    }
+
+    @Test
+    public void testCopiedRecordIsReplaced() {
+        final List<ExtLogRecord> records = new ArrayList<>();
+        final List<String> mdcValues = new ArrayList<>();
+        lmLogger.addHandler(new ExtHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                record.copyMdc();
+                records.add(record);
+                mdcValues.add(record.getMdc("key"));
+            }
+        });
+        final Slf4jLogger logger = new Slf4jLogger(lmLogger);
+        MDC.put("key", "first");
+        try {
+            logger.info("First");
+            MDC.put("key", "second");
+            logger.info("Second");
+        } finally {
+            MDC.remove("key");
+        }
+        Assertions.assertEquals(List.of("first", "second"), mdcValues);
+        Assertions.assertNotSame(records.get(0), records.get(1));
+    }
+
+    private static class FormattingHandler extends ExtHandler {
+        private final StringBuilder message = new StringBuilder(64);
+        private long count;
+
+        @Override
+        protected void doPublish(final ExtLogRecord record) {
+            message.setLength(0);
+            ((FormattableRecord) record).formatMessageTo(message);
+            count += record.getLevel().intValue() + record.getLoggerName().length() + record.getMillis();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.slf4j.LogBatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.NOPLogger;
+
+/**
+ * Tests for the {@link LogBatch}.
+ */
+public class LogBatchTestCase {
+    private static final String LOGGER_NAME = LogBatchTestCase.class.getName();
+
+    private LogContext logContext;
+    private QueueHandler handler;
+    private org.jboss.logmanager.Logger lmLogger;
+    private Slf4jLogger logger;
+
+    @BeforeEach
+    public void setup() {
+        logContext = LogContext.create();
+        handler = new QueueHandler();
+        lmLogger = logContext.getLogger(LOGGER_NAME);
+        lmLogger.addHandler(handler);
+        lmLogger.setLevel(Level.DEBUG);
+        logger = new Slf4jLogger(lmLogger);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        handler.close();
+        logContext.close();
+    }
+
+    @Test
+    public void testBatch() {
+        final RuntimeException e = new RuntimeException("Test exception");
+        try (LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.INFO)) {
+            Assertions.assertTrue(batch.isEnabled());
+            batch.add("Plain {}")
+                    .add("One {}", "a")
+                    .add("Two {} {}", "a", "b")
+                    .add("Three {} {} {}", "a", "b", "c")
+                    .add("Failed", e)
+                    .add("Trailing {}", "a", e);
+            Assertions.assertEquals(6, batch.size());
+            Assertions.assertTrue(handler.messages.isEmpty(), "Records must not be published before the flush");
+        }
+        final String[] expected = { "Plain {}", "One a", "Two a b", "Three a b c", "Failed", "Trailing a" };
+        for (String message : expected) {
+            final ExtLogRecord record = handler.messages.poll();
+            Assertions.assertNotNull(record);
+            Assertions.assertEquals(Level.INFO, record.getLevel());
+            Assertions.assertEquals(LOGGER_NAME, record.getLoggerName());
+            Assertions.assertEquals(message, record.getFormattedMessage());
+        }
+        Assertions.assertNull(handler.messages.poll());
+    }
+
+    @Test
+    public void testFlushAndReuse() {
+        final LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.DEBUG);
+        for (int i = 0; i < 100; i++) {
+            batch.add("Item {}", i);
+        }
+        batch.flush();
+        Assertions.assertEquals(0, batch.size());
+        Assertions.assertEquals(100, handler.messages.size());
+        handler.messages.clear();
+        batch.flush();
+        Assertions.assertTrue(handler.messages.isEmpty());
+        batch.add("Again").close();
+        Assertions.assertEquals("Again", handler.messages.poll().getFormattedMessage());
+    }
+
+    @Test
+    public void testDisabledLevel() {
+        final AtomicInteger count = new AtomicInteger();
+        final Object arg = new Object() {
+            @Override
+            public String toString() {
+                count.incrementAndGet();
+                return "value";
+            }
+        };
+        try (LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.TRACE)) {
+            Assertions.assertFalse(batch.isEnabled());
+            batch.add("Value {}", arg).add("Values {} {}", arg, arg);
+            Assertions.assertEquals(0, batch.size());
+        }
+        Assertions.assertEquals(0, count.get());
+        Assertions.assertTrue(handler.messages.isEmpty());
+    }
+
+    @Test
+    public void testHandlerOrder() {
+        final List<String> published = new ArrayList<>();
+        final org.jboss.logmanager.Logger parent = logContext.getLogger(LOGGER_NAME.substring(0,
+                LOGGER_NAME.lastIndexOf('.')));
+        parent.addHandler(new RecordingHandler("parent", published));
+        lmLogger.addHandler(new RecordingHandler("child", published));
+        try (LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.INFO)) {
+            batch.add("1").add("2").add("3");
+        }
+        // Each record is published to the handlers of the logger hierarchy before the next record
+        Assertions.assertEquals(List.of("child:1", "parent:1", "child:2", "parent:2", "child:3", "parent:3"), published);
+
+        published.clear();
+        lmLogger.setUseParentHandlers(false);
+        try (LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.INFO)) {
+            batch.add("4");
+        }
+        Assertions.assertEquals(List.of("child:4"), published);
+    }
+
+    @Test
+    public void testFilters() {
+        final org.jboss.logmanager.Logger parent = logContext.getLogger(LOGGER_NAME.substring(0,
+                LOGGER_NAME.lastIndexOf('.')));
+        parent.setFilter(record -> !record.getMessage().startsWith("parent"));
+        lmLogger.setFilter(record -> !record.getMessage().startsWith("child"));
+        try (LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.INFO)) {
+            batch.add("child rejected").add("parent ignored").add("accepted");
+        }
+        Assertions.assertEquals("parent ignored", handler.messages.poll().getFormattedMessage());
+        Assertions.assertEquals("accepted", handler.messages.poll().getFormattedMessage());
+        Assertions.assertNull(handler.messages.poll());
+
+        lmLogger.setUseParentFilters(true);
+        try (LogBatch batch = LogBatch.of(logger, org.slf4j.event.Level.INFO)) {
+            batch.add("child rejected").add("parent rejected").add("accepted");
+        }
+        Assertions.assertEquals("accepted", handler.messages.poll().getFormattedMessage());
+        Assertions.assertNull(handler.messages.poll());
+    }
+
+    @Test
+    public void testForeignLogger() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> LogBatch.of(NOPLogger.NOP_LOGGER, org.slf4j.event.Level.INFO));
+    }
+
+    private static class RecordingHandler extends ExtHandler {
+        private final String name;
+        private final List<String> published;
+
+        private RecordingHandler(final String name, final List<String> published) {
+            this.name = name;
+            this.published = published;
+        }
+
+        @Override
+        protected void doPublish(final ExtLogRecord record) {
+            published.add(name + ":" + record.getFormattedMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.logmanager.LogContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LoggerManifestTestCase {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testPrewarm() throws Exception {
+        final Path manifest = dir.resolve("loggers.txt");
+        Files.write(manifest, List.of("org.jboss.logmanager.slf4j.first", "", "org.jboss.logmanager.slf4j.second"),
+                StandardCharsets.UTF_8);
+        try (LogContext logContext = LogContext.create()) {
+            Assertions.assertNull(logContext.getLoggerIfExists("org.jboss.logmanager.slf4j.first"));
+            LoggerManifest.prewarm(logContext, manifest);
+            final AbstractSlf4jLogger logger = Slf4jLoggerFactory.getLogger(logContext, "org.jboss.logmanager.slf4j.first");
+            Assertions.assertSame(logContext, logger.getLogContext());
+            Assertions.assertNotNull(logContext.getLoggerIfExists("org.jboss.logmanager.slf4j.second"));
+        }
+    }
+
+    @Test
+    public void testMissingManifest() throws Exception {
+        try (LogContext logContext = LogContext.create()) {
+            LoggerManifest.prewarm(logContext, dir.resolve("missing.txt"));
+            Assertions.assertNull(logContext.getLoggerIfExists("org.jboss.logmanager.slf4j.first"));
+        }
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        final Path manifest = dir.resolve("manifest").resolve("loggers.txt");
+        LoggerManifest.record("org.jboss.logmanager.slf4j.recorded");
+        LoggerManifest.record("org.jboss.logmanager.slf4j.invalid\nname");
+        LoggerManifest.write(manifest);
+        final List<String> names = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        Assertions.assertTrue(names.contains("org.jboss.logmanager.slf4j.recorded"), () -> "Missing name in " + names);
+        Assertions.assertFalse(names.contains("org.jboss.logmanager.slf4j.invalid"), () -> "Invalid name in " + names);
+        Assertions.assertFalse(Files.exists(manifest.resolveSibling("loggers.txt.tmp")));
+    }
+
+    @Test
+    public void testUnusedNames() throws Exception {
+        Assumptions.assumeTrue(LoggerManifest.ENABLED, "The logger manifest is not configured");
+        final Path manifest = dir.resolve("loggers.txt");
+        Files.write(manifest, List.of("org.jboss.logmanager.slf4j.unused", "org.jboss.logmanager.slf4j.used"),
+                StandardCharsets.UTF_8);
+        try (LogContext logContext = LogContext.create()) {
+            LoggerManifest.prewarm(logContext, manifest);
+            Slf4jLoggerFactory.getLogger(logContext, "org.jboss.logmanager.slf4j.used");
+        }
+        LoggerManifest.write(manifest);
+        final List<String> names = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        Assertions.assertTrue(names.contains("org.jboss.logmanager.slf4j.used"), () -> "Missing name in " + names);
+        Assertions.assertFalse(names.contains("org.jboss.logmanager.slf4j.unused"), () -> "Unused name in " + names);
+    }
+}
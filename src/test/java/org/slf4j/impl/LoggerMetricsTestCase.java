@@ -0,0 +1,166 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.slf4j.LoggerStatistics;
+import org.jboss.logmanager.slf4j.LoggingMetricsMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the logger metrics. These tests are only run by the {@code metrics} surefire execution, which enables the
+ * metrics and times every call.
+ */
+public class LoggerMetricsTestCase {
+    private static final String LOGGER_NAME = LoggerMetricsTestCase.class.getName();
+
+    private LogContext logContext;
+    private QueueHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        Assumptions.assumeTrue(LoggerMetrics.ENABLED, "Metrics are not enabled");
+        logContext = LogContext.create();
+        handler = new QueueHandler();
+        final org.jboss.logmanager.Logger lmLogger = logContext.getLogger(LOGGER_NAME);
+        lmLogger.addHandler(handler);
+        lmLogger.setLevel(Level.INFO);
+        LoggerMetrics.forLogger(LOGGER_NAME).reset();
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        if (logContext != null) {
+            handler.close();
+            logContext.close();
+        }
+    }
+
+    @Test
+    public void testCounters() {
+        final Slf4jLogger logger = new Slf4jLogger(logContext.getLogger(LOGGER_NAME), MarkerLevels.parse(null),
+                Sampling.parse("INFO=sample:2"));
+        logger.debug("Rejected");
+        logger.trace("Rejected {}", 1);
+        for (int i = 0; i < 4; i++) {
+            logger.info("Enabled {}", i);
+        }
+        logger.error("Error");
+
+        final LoggerStatistics statistics = new Slf4jLoggingMetrics().getLoggerStatistics(LOGGER_NAME);
+        Assertions.assertNotNull(statistics);
+        Assertions.assertEquals(7L, statistics.getCalls());
+        Assertions.assertEquals(2L, statistics.getRejected());
+        Assertions.assertEquals(5L, statistics.getEnabled());
+        // Half of the INFO events are suppressed by sampling
+        Assertions.assertEquals(3L, statistics.getEmitted());
+        Assertions.assertEquals(Map.of("TRACE", 1L, "DEBUG", 1L, "INFO", 0L, "WARN", 0L, "ERROR", 0L),
+                statistics.getRejectedByLevel());
+        Assertions.assertEquals(2L, statistics.getEmittedByLevel().get("INFO"));
+        Assertions.assertEquals(1L, statistics.getEmittedByLevel().get("ERROR"));
+        // Every call is timed in the tests
+        Assertions.assertEquals(3L, statistics.getTimedCalls());
+        Assertions.assertTrue(statistics.getCreateNanos() + statistics.getDispatchNanos() > 0L);
+        // The metrics are released with the last logger of the name
+        Reference.reachabilityFence(logger);
+    }
+
+    @Test
+    public void testMXBean() throws Exception {
+        final Slf4jLogger logger = new Slf4jLogger(logContext.getLogger(LOGGER_NAME));
+        for (int i = 0; i < 1000; i++) {
+            logger.info("Top {}", i);
+        }
+        Slf4jLoggingMetrics.register();
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(LoggingMetricsMXBean.OBJECT_NAME);
+        Assertions.assertTrue((Long) server.getAttribute(name, "Emitted") >= 1000L);
+
+        // Other tests share the metrics, so only the ordering and the entry for this logger are checked
+        final CompositeData[] top = (CompositeData[]) server.invoke(name, "topLoggersByEmitted",
+                new Object[] { Integer.MAX_VALUE }, new String[] { int.class.getName() });
+        CompositeData found = null;
+        for (int i = 0; i < top.length; i++) {
+            if (i > 0) {
+                Assertions.assertTrue((Long) top[i - 1].get("emitted") >= (Long) top[i].get("emitted"));
+            }
+            if (LOGGER_NAME.equals(top[i].get("name"))) {
+                found = top[i];
+            }
+        }
+        Assertions.assertNotNull(found);
+        Assertions.assertEquals(1000L, found.get("emitted"));
+        Assertions.assertInstanceOf(TabularData.class, found.get("emittedByLevel"));
+        Assertions.assertEquals(1, ((CompositeData[]) server.invoke(name, "topLoggersByEmitted", new Object[] { 1 },
+                new String[] { int.class.getName() })).length);
+
+        server.invoke(name, "reset", null, null);
+        Assertions.assertEquals(0L, new Slf4jLoggingMetrics().getLoggerStatistics(LOGGER_NAME).getEmitted());
+        Reference.reachabilityFence(logger);
+    }
+
+    @Test
+    public void testReleased() {
+        final String name = LOGGER_NAME + ".released";
+        Slf4jLogger logger = new Slf4jLogger(logContext.getLogger(name));
+        logger.info("Released");
+        Assertions.assertEquals(1L, new Slf4jLoggingMetrics().getLoggerStatistics(name).getEmitted());
+        logger = null;
+        for (int i = 0; i < 100 && LoggerMetrics.get(name) != null; i++) {
+            System.gc();
+        }
+        Assertions.assertNull(LoggerMetrics.get(name), "The metrics should be released with the logger");
+        Assertions.assertNull(new Slf4jLoggingMetrics().getLoggerStatistics(name));
+    }
+
+    @Test
+    public void testLoggerRegistries() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            Slf4jLoggerFactory.getLogger(logContext, LOGGER_NAME + ".registry" + i);
+        }
+        final String logContextName = Slf4jLoggerFactory.getCachedLoggers(logContext).getName();
+        Slf4jLoggingMetrics.register();
+        final CompositeData[] registries = (CompositeData[]) ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(LoggingMetricsMXBean.OBJECT_NAME), "LoggerRegistries");
+        CompositeData found = null;
+        for (CompositeData registry : registries) {
+            if (logContextName.equals(registry.get("logContext"))) {
+                found = registry;
+            }
+        }
+        Assertions.assertNotNull(found);
+        Assertions.assertEquals(10, found.get("loggers"));
+        Assertions.assertTrue((Long) found.get("estimatedHeapBytes") > 0L);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.logmanager.LogContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the weakly referenced {@link LoggerRegistry}. These tests are only run by the {@code weak-loggers} surefire
+ * execution, which enables weak loggers and the metrics, so the metrics must not retain the loggers either.
+ */
+public class LoggerRegistryTestCase {
+    private static final int LOGGERS = 1_000_000;
+    private static final int RETAINED = 1_000;
+    // Strongly referenced, the loggers, log manager loggers and logger nodes retain several hundred bytes each
+    private static final long MAX_RETAINED_BYTES = 64L * 1024L * 1024L;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private LogContext logContext;
+
+    @BeforeEach
+    public void setup() {
+        Assumptions.assumeTrue(LoggerRegistry.WEAK, "Weak loggers are not enabled");
+        logContext = LogContext.create();
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        if (logContext != null) {
+            logContext.close();
+        }
+    }
+
+    @Test
+    public void testBoundedRetainedHeap() throws Exception {
+        final long before = usedHeap();
+        final List<AbstractSlf4jLogger> retained = new ArrayList<>(RETAINED);
+        for (int i = 0; i < LOGGERS; i++) {
+            final AbstractSlf4jLogger logger = Slf4jLoggerFactory.getLogger(logContext, name(i));
+            if (i % (LOGGERS / RETAINED) == 0) {
+                retained.add(logger);
+            }
+        }
+        final LoggerRegistry registry = Slf4jLoggerFactory.getCachedLoggers(logContext);
+        Assertions.assertNotNull(registry);
+
+        final long deadline = System.nanoTime() + 30_000_000_000L;
+        while (registry.size() > RETAINED && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        final long after = usedHeap();
+        Assertions.assertEquals(RETAINED, registry.size(), "Unreferenced loggers should have been removed");
+        Assertions.assertEquals(RETAINED, registry.loggers().size());
+        Assertions.assertTrue(after - before < MAX_RETAINED_BYTES,
+                () -> String.format("Expected less than %d bytes to be retained for %d loggers, but %d bytes were retained",
+                        MAX_RETAINED_BYTES, LOGGERS, after - before));
+        Assertions.assertTrue(registry.estimateHeapBytes() < MAX_RETAINED_BYTES);
+        if (LoggerMetrics.ENABLED) {
+            // Loggers of other tests may still be referenced
+            final int metrics = LoggerMetrics.all().size();
+            Assertions.assertTrue(metrics >= RETAINED && metrics < 2 * RETAINED,
+                    () -> String.format("Expected the metrics of %d loggers to be retained, but %d were retained", RETAINED,
+                            metrics));
+        }
+
+        // Referenced loggers are not reclaimed and are returned again
+        for (int i = 0; i < RETAINED; i++) {
+            final AbstractSlf4jLogger logger = retained.get(i);
+            Assertions.assertSame(logger, Slf4jLoggerFactory.getLogger(logContext, logger.getName()));
+        }
+    }
+
+    @Test
+    public void testRecreated() {
+        final String name = name(42);
+        AbstractSlf4jLogger logger = Slf4jLoggerFactory.getLogger(logContext, name);
+        logContext.getLogger(name).setLevel(org.jboss.logmanager.Level.DEBUG);
+        Assertions.assertTrue(logger.isDebugEnabled());
+        Assertions.assertSame(logger, Slf4jLoggerFactory.getLogger(logContext, name));
+        logger = null;
+
+        final LoggerRegistry registry = Slf4jLoggerFactory.getCachedLoggers(logContext);
+        for (int i = 0; i < 100 && registry.size() > 0; i++) {
+            System.gc();
+        }
+        Assertions.assertEquals(0, registry.size());
+        // The logger is created again for the name
+        Assertions.assertEquals(name, Slf4jLoggerFactory.getLogger(logContext, name).getName());
+        Assertions.assertEquals(1, registry.size());
+    }
+
+    private long usedHeap() throws InterruptedException {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(20L);
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+
+    private static String name(final int i) {
+        // Spread the names so no logger node has more than a hundred children
+        return "tenant" + i / 10_000 + ".service" + i / 100 % 100 + ".logger" + i % 100;
+    }
+}
@@ -19,13 +19,13 @@
 
 package org.slf4j.impl;
 
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.function.Supplier;
-import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
-import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.ExtLogRecord;
 import org.jboss.logmanager.ExtLogRecord.FormatStyle;
 import org.jboss.logmanager.LogContext;
@@ -71,7 +71,8 @@ public class LoggerTestCase {
     @Test
     public void testLogger() {
         final Logger logger = LoggerFactory.getLogger(LoggerTestCase.class);
-        Assertions.assertTrue(logger instanceof Slf4jLogger, expectedTypeMessage(Slf4jLogger.class, logger.getClass()));
+        Assertions.assertTrue(logger instanceof AbstractSlf4jLogger,
+                expectedTypeMessage(AbstractSlf4jLogger.class, logger.getClass()));
 
         // Ensure the logger logs something
         final String testMsg = "This is a test message";
@@ -142,26 +143,51 @@ public class LoggerTestCase {
         Assertions.assertEquals(FormatStyle.NO_FORMAT, ((ExtLogRecord) record).getFormatStyle());
     }
 
-    private static Supplier<String> expectedTypeMessage(final Class<?> expected, final Class<?> found) {
-        return () -> String.format("Expected type %s but found type %s", expected.getName(), found.getName());
+    @Test
+    public void testCaller() {
+        final QueueHandler handler = new QueueHandler() {
+            @Override
+            protected void doPublish(final ExtLogRecord record) {
+                // The caller is calculated from the stack of the logging thread
+                record.copyAll();
+                super.doPublish(record);
+            }
+        };
+        ROOT.addHandler(handler);
+        try {
+            LoggerFactory.getLogger(LoggerTestCase.class).info("factory");
+            new Slf4jLogger(LOG_CONTEXT.getLogger(LoggerTestCase.class.getName())).info("plain");
+            Assertions.assertEquals(2, handler.messages.size());
+            for (ExtLogRecord record : handler.messages) {
+                Assertions.assertEquals(LoggerTestCase.class.getName(), record.getSourceClassName());
+                Assertions.assertEquals("testCaller", record.getSourceMethodName());
+            }
+        } finally {
+            ROOT.removeHandler(handler);
+        }
     }
 
-    private static class QueueHandler extends ExtHandler {
-        final BlockingDeque<ExtLogRecord> messages = new LinkedBlockingDeque<>();
+    @Test
+    public void testSerialization() throws Exception {
+        final Logger logger = LoggerFactory.getLogger(LoggerTestCase.class);
 
-        @Override
-        protected void doPublish(final ExtLogRecord record) {
-            messages.add(record);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(logger);
         }
-
-        @Override
-        public void flush() {
+        final Logger result;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            result = (Logger) ois.readObject();
         }
+        Assertions.assertSame(logger, result);
 
-        @Override
-        public void close() throws SecurityException {
-            messages.clear();
-            setLevel(Level.ALL);
-        }
+        result.info("deserialized {}", "message");
+        final ExtLogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("deserialized message", record.getFormattedMessage());
+    }
+
+    private static Supplier<String> expectedTypeMessage(final Class<?> expected, final Class<?> found) {
+        return () -> String.format("Expected type %s but found type %s", expected.getName(), found.getName());
     }
 }
@@ -0,0 +1,218 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.LogContextSelector;
+import org.jboss.logmanager.slf4j.KeyValueRecord;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.event.DefaultLoggingEvent;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.spi.LoggingEventAware;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
+
+/**
+ * Tests for the SLF4J 2 fluent API. These tests are not run with the legacy SLF4J 1.7 API.
+ */
+public class LoggingEventBuilderTestCase {
+    private static final boolean STRUCTURED_KEY_VALUES = Boolean
+            .getBoolean("org.jboss.logmanager.slf4j.structuredKeyValues");
+    private static final LogContext LOG_CONTEXT = LogContext.create();
+    private static final java.util.logging.Logger ROOT = LOG_CONTEXT.getLogger("");
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    private static final LogContextSelector DEFAULT_SELECTOR = LogContext.getLogContextSelector();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        LogContext.setLogContextSelector(() -> LOG_CONTEXT);
+        ROOT.addHandler(HANDLER);
+    }
+
+    @AfterAll
+    public static void cleanup() throws Exception {
+        LOG_CONTEXT.close();
+        LogContext.setLogContextSelector(DEFAULT_SELECTOR);
+    }
+
+    @AfterEach
+    public void clearHandler() {
+        HANDLER.close();
+        ROOT.setLevel(Level.INFO);
+    }
+
+    @Test
+    public void testFluentLogger() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        Assertions.assertTrue(logger instanceof LoggingEventAware, "Expected the logger to be LoggingEventAware");
+
+        final Marker marker = new BasicMarkerFactory().getMarker("test");
+        final RuntimeException e = new RuntimeException("Test exception");
+        logger.atInfo()
+                .addMarker(marker)
+                .addArgument("one")
+                .addArgument(() -> "two")
+                .setCause(e)
+                .log("Test {} {}");
+        final ExtLogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(Level.INFO, record.getLevel());
+        Assertions.assertEquals("Test one two", record.getFormattedMessage());
+        Assertions.assertArrayEquals(new Object[] { "one", "two" }, record.getParameters());
+        Assertions.assertSame(e, record.getThrown());
+        Assertions.assertSame(marker, record.getMarker());
+    }
+
+    @Test
+    public void testManyArguments() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        final LoggingEventBuilder builder = logger.atInfo().setMessage("{} {} {} {} {} {}");
+        final Object[] expected = new Object[6];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+            builder.addArgument(i);
+        }
+        builder.log();
+        final ExtLogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("0 1 2 3 4 5", record.getFormattedMessage());
+        Assertions.assertArrayEquals(expected, record.getParameters());
+    }
+
+    @Test
+    public void testBuilderReuse() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        final LoggingEventBuilder builder = logger.atInfo();
+        // The thread's builder is in use, so a nested event must get its own builder
+        builder.addArgument(() -> {
+            logger.atInfo().addArgument("nested").log("Nested {}");
+            return "outer";
+        }).log("Outer {}");
+        final ExtLogRecord nested = HANDLER.messages.poll();
+        Assertions.assertNotNull(nested);
+        Assertions.assertEquals("Nested nested", nested.getFormattedMessage());
+        final ExtLogRecord outer = HANDLER.messages.poll();
+        Assertions.assertNotNull(outer);
+        Assertions.assertEquals("Outer outer", outer.getFormattedMessage());
+
+        // Once logged the builder is released and reset
+        final LoggingEventBuilder reused = logger.atInfo();
+        Assertions.assertSame(builder, reused);
+        reused.log("Reset");
+        final ExtLogRecord reset = HANDLER.messages.poll();
+        Assertions.assertNotNull(reset);
+        Assertions.assertEquals("Reset", reset.getFormattedMessage());
+        Assertions.assertNull(reset.getParameters());
+    }
+
+    @Test
+    public void testKeyValuePairs() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        logger.atInfo()
+                .addKeyValue("count", 42)
+                .addKeyValue("name", () -> "value")
+                .log("Test {}", "message");
+        final ExtLogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        if (STRUCTURED_KEY_VALUES) {
+            Assertions.assertEquals("Test message", record.getFormattedMessage());
+        } else {
+            // The pairs are rendered as SLF4J renders them, so formatters unaware of them still print them
+            Assertions.assertEquals("count=42 name=value Test message", record.getFormattedMessage());
+        }
+        Assertions.assertTrue(record instanceof KeyValueRecord, "Expected the record to be a KeyValueRecord");
+        final List<KeyValuePair> keyValuePairs = ((KeyValueRecord) record).getKeyValuePairs();
+        Assertions.assertEquals(List.of(new KeyValuePair("count", 42), new KeyValuePair("name", "value")), keyValuePairs);
+        Assertions.assertInstanceOf(Integer.class, keyValuePairs.get(0).value);
+    }
+
+    @Test
+    public void testTrailingThrowable() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        final RuntimeException e = new RuntimeException("Test exception");
+        logger.atWarn().log("Test {}", "value", e);
+        final ExtLogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Test value", record.getFormattedMessage());
+        Assertions.assertSame(e, record.getThrown());
+    }
+
+    @Test
+    public void testDisabledLevel() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        Assertions.assertSame(NOPLoggingEventBuilder.singleton(), logger.atDebug());
+
+        final AtomicInteger count = new AtomicInteger();
+        // The builder is created for all levels, suppliers must not be invoked if the level is disabled
+        logger.makeLoggingEventBuilder(org.slf4j.event.Level.DEBUG)
+                .addArgument(count::incrementAndGet)
+                .setMessage(() -> String.valueOf(count.incrementAndGet()))
+                .log();
+        Assertions.assertEquals(0, count.get());
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testMarkerLevel() {
+        final org.jboss.logmanager.Logger lmLogger = LOG_CONTEXT.getLogger(LoggingEventBuilderTestCase.class.getName());
+        final Logger logger = new Slf4jEventAwareLogger(lmLogger, MarkerLevels.parse("AUDIT=INFO"));
+        final Marker audit = new BasicMarkerFactory().getMarker("AUDIT");
+        ROOT.setLevel(Level.WARN);
+        Assertions.assertFalse(logger.isInfoEnabled());
+
+        logger.atInfo().addMarker(audit).log("Test {}", "audit");
+        final ExtLogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Test audit", record.getFormattedMessage());
+        Assertions.assertSame(audit, record.getMarker());
+
+        logger.atInfo().log("Not logged");
+        logger.atInfo().addMarker(new BasicMarkerFactory().getMarker("OTHER")).log("Not logged");
+        Assertions.assertNull(HANDLER.messages.poll());
+        Assertions.assertSame(NOPLoggingEventBuilder.singleton(), logger.atDebug());
+    }
+
+    @Test
+    public void testLoggingEvent() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        final DefaultLoggingEvent event = new DefaultLoggingEvent(org.slf4j.event.Level.ERROR, logger);
+        event.setMessage("Test {}");
+        event.addArgument("value");
+        ((LoggingEventAware) logger).log(event);
+        final ExtLogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(Level.ERROR, record.getLevel());
+        Assertions.assertEquals("Test value", record.getFormattedMessage());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Marker;
+import org.slf4j.helpers.BasicMarkerFactory;
+
+public class MarkerLevelsTestCase {
+
+    @Test
+    public void testResolve() {
+        final MarkerLevels markerLevels = MarkerLevels
+                .parse("AUDIT=INFO, SQL@org.example.dao=TRACE, SQL@org.example=WARN, invalid");
+        Assertions.assertNull(MarkerLevels.parse(null).resolve("org.example"));
+        Assertions.assertNull(MarkerLevels.parse("SQL@org.example=TRACE").resolve("org.examples"));
+
+        long[] masks = markerLevels.resolve("org.example.dao.Repository");
+        Assertions.assertNotNull(masks);
+        Assertions.assertEquals(0b10L, masks[MarkerLevels.TRACE]);
+        Assertions.assertEquals(0b11L, masks[MarkerLevels.INFO]);
+
+        masks = markerLevels.resolve("org.example.Service");
+        Assertions.assertEquals(0L, masks[MarkerLevels.DEBUG]);
+        Assertions.assertEquals(0b01L, masks[MarkerLevels.INFO]);
+        Assertions.assertEquals(0b11L, masks[MarkerLevels.WARN]);
+
+        masks = markerLevels.resolve("org.other");
+        Assertions.assertEquals(0b01L, masks[MarkerLevels.ERROR]);
+    }
+
+    @Test
+    public void testMarkerEnabled() throws Exception {
+        final LogContext logContext = LogContext.create();
+        final Logger lmLogger = logContext.getLogger("org.example.dao.Repository");
+        final QueueHandler handler = new QueueHandler();
+        lmLogger.addHandler(handler);
+        lmLogger.setLevel(Level.INFO);
+        try {
+            final Slf4jLogger logger = new Slf4jLogger(lmLogger, MarkerLevels.parse("SQL@org.example.dao=TRACE"));
+            final IMarkerFactory markerFactory = new BasicMarkerFactory();
+            final Marker sql = markerFactory.getMarker("SQL");
+            final Marker query = markerFactory.getDetachedMarker("QUERY");
+            query.add(sql);
+            final Marker other = markerFactory.getMarker("OTHER");
+
+            Assertions.assertFalse(logger.isTraceEnabled());
+            Assertions.assertTrue(logger.isTraceEnabled(sql));
+            Assertions.assertTrue(logger.isDebugEnabled(query));
+            Assertions.assertFalse(logger.isTraceEnabled(other));
+
+            logger.trace("not logged");
+            logger.trace(other, "not logged");
+            Assertions.assertNull(handler.messages.poll());
+
+            logger.trace(sql, "Test {}", "sql");
+            ExtLogRecord record = handler.messages.poll();
+            Assertions.assertNotNull(record);
+            Assertions.assertEquals("Test sql", record.getFormattedMessage());
+            Assertions.assertSame(sql, record.getMarker());
+
+            logger.debug(query, "query");
+            record = handler.messages.poll();
+            Assertions.assertNotNull(record);
+            Assertions.assertSame(query, record.getMarker());
+        } finally {
+            handler.close();
+            logContext.close();
+        }
+    }
+}
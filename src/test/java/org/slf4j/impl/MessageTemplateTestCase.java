@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Differential tests which check the {@link MessageTemplate} formats exactly as the {@link MessageFormatter}.
+ */
+public class MessageTemplateTestCase {
+    private static final String[] PATTERNS = {
+            "",
+            "No placeholders",
+            "{}",
+            "{}{}",
+            "Value {}",
+            "Value {} and {}",
+            "{} leading and trailing {}",
+            "Unbalanced { and }",
+            "Open {{}",
+            "Close {}}",
+            "Nested {{}}",
+            "Escaped \\{}",
+            "Escaped \\{} then {}",
+            "Value {} then escaped \\{}",
+            "Double escaped \\\\{}",
+            "Triple escaped \\\\\\{}",
+            "\\{}",
+            "\\\\{}",
+            "\\{}\\{}{}",
+            "Trailing backslash \\",
+            "Backslash \\ in {} text",
+            "Many {} {} {} {} {} {} {} {} {} {}",
+            "Unicode é{}☃{}",
+    };
+
+    @Test
+    public void testPatterns() {
+        final Object[][] arguments = {
+                null,
+                {},
+                { "a" },
+                { "a", "b" },
+                { "a", "b", "c" },
+                { null, 1, 2L },
+                { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 },
+        };
+        for (String pattern : PATTERNS) {
+            for (Object[] args : arguments) {
+                assertSameFormat(pattern, args);
+            }
+        }
+    }
+
+    @Test
+    public void testArrays() {
+        final Object[] self = new Object[2];
+        self[0] = "self";
+        self[1] = self;
+        final Object[] shared = { "shared" };
+        final Object[] arrays = {
+                new int[] { 1, 2 },
+                new long[] { Long.MIN_VALUE, 0L },
+                new byte[] { -1, 2 },
+                new short[] { 3, -4 },
+                new char[] { 'a', 'b' },
+                new boolean[] { true, false },
+                new float[] { 1.5f, Float.NaN },
+                new double[] { -0.0d, 1e300 },
+                new int[0],
+                new Object[0],
+                new Object[] { "a", null, new int[] { 1 }, new Object[] { "nested", new String[] { "deep" } } },
+                self,
+                new Object[] { shared, shared },
+                new String[] { "x", "y" },
+        };
+        for (Object array : arrays) {
+            assertSameFormat("Array {}", new Object[] { array });
+            assertSameFormat("Arrays {} {}", new Object[] { array, array });
+        }
+    }
+
+    @Test
+    public void testFailedToString() {
+        final Object failing = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("Expected");
+            }
+        };
+        assertSameFormat("Failed {} and {}", new Object[] { failing, "ok" });
+    }
+
+    @Test
+    public void testRandomPatterns() {
+        final Random random = new Random(42L);
+        final char[] alphabet = { '{', '}', '\\', 'a', ' ' };
+        for (int n = 0; n < 20_000; n++) {
+            final int length = random.nextInt(12);
+            final StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            final Object[] args = new Object[random.nextInt(5)];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = "#" + i;
+            }
+            assertSameFormat(sb.toString(), args);
+        }
+    }
+
+    @Test
+    public void testTrailingThrowable() {
+        final Object[] args = { "value", new RuntimeException("Expected") };
+        Assertions.assertEquals(MessageFormatter.arrayFormat("Test {} {}", MessageFormatter.trimmedCopy(args)).getMessage(),
+                Slf4jLogger.formatMessage("Test {} {}", args, true));
+        Assertions.assertEquals("Test value {}", Slf4jLogger.formatMessage("Test {} {}", args, true));
+    }
+
+    @Test
+    public void testReentrantFormat() {
+        final Object reentrant = new Object() {
+            @Override
+            public String toString() {
+                return MessageTemplate.format("inner {}", new Object[] { "value" }, 1);
+            }
+        };
+        Assertions.assertEquals("outer inner value done",
+                MessageTemplate.format("outer {} {}", new Object[] { reentrant, "done" }, 2));
+    }
+
+    @Test
+    public void testCache() {
+        final String pattern = "Cached {}";
+        Assertions.assertSame(MessageTemplate.parse(pattern), MessageTemplate.parse(pattern));
+        Assertions.assertEquals(1, MessageTemplate.parse(pattern).placeholders());
+
+        // Dynamically built templates replace each other in the cache
+        for (int i = 0; i < 10_000; i++) {
+            final String dynamic = "Dynamic " + i + " {}";
+            Assertions.assertEquals("Dynamic " + i + " x", MessageTemplate.format(dynamic, new Object[] { "x" }, 1));
+        }
+        // An equal template with another identity is parsed again
+        final String copy = new String(pattern);
+        Assertions.assertEquals("Cached x", MessageTemplate.format(copy, new Object[] { "x" }, 1));
+    }
+
+    private static void assertSameFormat(final String pattern, final Object[] args) {
+        final String expected = MessageFormatter.arrayFormat(pattern, args).getMessage();
+        Assertions.assertEquals(expected, MessageTemplate.format(pattern, args, args == null ? 0 : args.length),
+                () -> "Pattern \"" + pattern + "\" with " + (args == null ? "null" : args.length) + " arguments");
+        // Formatting a cached template gives the same result
+        Assertions.assertEquals(expected, MessageTemplate.format(pattern, args, args == null ? 0 : args.length));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.slf4j.PrimitiveLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Tests for the primitive overloads of the {@link PrimitiveLogger}.
+ */
+public class PrimitiveLoggerTestCase {
+    private static final String LOGGER_NAME = PrimitiveLoggerTestCase.class.getName();
+    private static final String[] PATTERNS = {
+            "No placeholders",
+            "Value {}",
+            "Values {} and {}",
+            "Escaped \\{} then {}",
+            "Double escaped \\\\{} {} \\{}",
+            "{}{}{}",
+    };
+
+    private LogContext logContext;
+    private QueueHandler handler;
+    private PrimitiveLogger logger;
+
+    @BeforeEach
+    public void setup() {
+        logContext = LogContext.create();
+        handler = new QueueHandler();
+        final org.jboss.logmanager.Logger lmLogger = logContext.getLogger(LOGGER_NAME);
+        lmLogger.addHandler(handler);
+        lmLogger.setLevel(Level.DEBUG);
+        logger = new Slf4jLogger(lmLogger);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        handler.close();
+        logContext.close();
+    }
+
+    @Test
+    public void testFormatting() {
+        final long[] longs = { 0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE };
+        final double[] doubles = { 0.0d, -0.0d, 1.5d, 1e-10d, Double.NaN, Double.NEGATIVE_INFINITY, Double.MAX_VALUE };
+        for (String pattern : PATTERNS) {
+            for (long value : longs) {
+                logger.info(pattern, value);
+                assertMessage(pattern, value);
+                logger.info(pattern, value, -value);
+                assertMessage(pattern, value, -value);
+                logger.info(pattern, (int) value);
+                assertMessage(pattern, (int) value);
+                logger.info(pattern, (int) value, 42);
+                assertMessage(pattern, (int) value, 42);
+            }
+            for (double value : doubles) {
+                logger.info(pattern, value);
+                assertMessage(pattern, value);
+                logger.info(pattern, value, value / 3);
+                assertMessage(pattern, value, value / 3);
+            }
+            logger.info(pattern, true);
+            assertMessage(pattern, true);
+            logger.info(pattern, false, true);
+            assertMessage(pattern, false, true);
+        }
+    }
+
+    @Test
+    public void testLevels() {
+        logger.trace("Trace {}", 1L);
+        logger.trace("Trace {} {}", 1, 2);
+        Assertions.assertNull(handler.messages.poll());
+
+        logger.debug("Debug {}", 1L);
+        logger.warn("Warn {} {}", 1.5d, 2.5d);
+        logger.error("Error {}", true);
+        ExtLogRecord record = handler.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(Level.DEBUG, record.getLevel());
+        Assertions.assertEquals("Debug 1", record.getFormattedMessage());
+        // The arguments are not boxed into the record
+        Assertions.assertNull(record.getParameters());
+        record = handler.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(Level.WARN, record.getLevel());
+        Assertions.assertEquals("Warn 1.5 2.5", record.getFormattedMessage());
+        record = handler.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(Level.ERROR, record.getLevel());
+        Assertions.assertEquals("Error true", record.getFormattedMessage());
+    }
+
+    @Test
+    public void testFactory() {
+        final Slf4jLoggerFactory factory = new Slf4jLoggerFactory();
+        Assertions.assertSame(factory.getLogger(LOGGER_NAME), PrimitiveLogger.getLogger(LOGGER_NAME));
+        Assertions.assertSame(factory.getLogger(PrimitiveLoggerTestCase.class),
+                PrimitiveLogger.getLogger(PrimitiveLoggerTestCase.class));
+    }
+
+    private void assertMessage(final String pattern, final Object... args) {
+        final ExtLogRecord record = handler.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(MessageFormatter.arrayFormat(pattern, args).getMessage(), record.getFormattedMessage());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SamplingTestCase {
+    private static final String LOGGER_NAME = "org.example.dao.Repository";
+
+    private LogContext logContext;
+    private QueueHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        logContext = LogContext.create();
+        handler = new QueueHandler();
+        final org.jboss.logmanager.Logger root = logContext.getLogger("");
+        root.addHandler(handler);
+        root.setLevel(Level.TRACE);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        handler.close();
+        logContext.close();
+    }
+
+    @Test
+    public void testOneInN() {
+        final Slf4jLogger logger = logger("DEBUG@org.example=sample:3");
+        for (int i = 0; i < 7; i++) {
+            logger.debug("Event {}", i);
+        }
+        assertRecord("Event 0", null);
+        assertRecord("Event 3", "2");
+        assertRecord("Event 6", "2");
+        Assertions.assertNull(handler.messages.poll());
+
+        // Other levels are not affected
+        logger.info("Info");
+        assertRecord("Info", null);
+    }
+
+    @Test
+    public void testFirstN() {
+        final Slf4jLogger logger = logger("INFO=first:2/1h");
+        for (int i = 0; i < 5; i++) {
+            logger.info("Event {}", i);
+        }
+        assertRecord("Event 0", null);
+        assertRecord("Event 1", null);
+        Assertions.assertNull(handler.messages.poll());
+    }
+
+    @Test
+    public void testRate() {
+        final Slf4jLogger logger = logger("WARN=rate:3/1h");
+        for (int i = 0; i < 5; i++) {
+            logger.warn("Event {}", i);
+        }
+        assertRecord("Event 0", null);
+        assertRecord("Event 1", null);
+        assertRecord("Event 2", null);
+        Assertions.assertNull(handler.messages.poll());
+    }
+
+    @Test
+    public void testPerFormat() {
+        final Slf4jLogger logger = logger("DEBUG=first:1/1h:format");
+        logger.debug("First {}", 1);
+        logger.debug("First {}", 2);
+        logger.debug("Second {}", 1);
+        logger.debug("Second {}", 2);
+        assertRecord("First 1", null);
+        assertRecord("Second 1", null);
+        Assertions.assertNull(handler.messages.poll());
+    }
+
+    @Test
+    public void testMostSpecificCategory() {
+        final Slf4jLogger logger = logger("DEBUG=first:1/1h,DEBUG@org.example.dao=sample:1");
+        logger.debug("One");
+        logger.debug("Two");
+        assertRecord("One", null);
+        assertRecord("Two", null);
+    }
+
+    @Test
+    public void testNotFormatted() {
+        final Slf4jLogger logger = logger("DEBUG=first:1/1h");
+        final AtomicInteger count = new AtomicInteger();
+        final Object arg = new Object() {
+            @Override
+            public String toString() {
+                count.incrementAndGet();
+                return "value";
+            }
+        };
+        logger.debug("Event {}", arg);
+        logger.debug("Event {}", arg);
+        Assertions.assertEquals(1, count.get(), "Only the logged event should be formatted");
+    }
+
+    @Test
+    public void testInvalid() {
+        Assertions.assertNull(Sampling.parse("DEBUG=sample:0, FINE=sample:2, DEBUG=rate:5, INFO=first:1/1w, x")
+                .resolve(LOGGER_NAME));
+        Assertions.assertNull(Sampling.parse(null).resolve(LOGGER_NAME));
+        Assertions.assertNull(Sampling.parse("DEBUG@org.other=sample:2").resolve(LOGGER_NAME));
+    }
+
+    private Slf4jLogger logger(final String policy) {
+        return new Slf4jLogger(logContext.getLogger(LOGGER_NAME), MarkerLevels.parse(null), Sampling.parse(policy));
+    }
+
+    private void assertRecord(final String message, final String suppressed) {
+        final ExtLogRecord record = handler.messages.poll();
+        Assertions.assertNotNull(record, "Expected a record for " + message);
+        Assertions.assertEquals(message, record.getFormattedMessage());
+        Assertions.assertEquals(suppressed, record.getMdc(Sampling.MDC_KEY));
+    }
+}
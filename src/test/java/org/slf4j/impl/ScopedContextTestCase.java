@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.logmanager.MDC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the MDC bound to a {@code ScopedValue}. These tests require the Java 25 classes of the multi-release JAR
+ * and are skipped otherwise.
+ */
+public class ScopedContextTestCase {
+    private final MDCMap context = MDCMap.of(Map.of("request", "1"), false);
+
+    @BeforeEach
+    public void setup() {
+        Assumptions.assumeTrue(ScopedContext.isScoped(), "Scoped values require Java 25 or later");
+        Assumptions.assumeTrue(Slf4jMDCProvider.isActive(), "The MDC provider of the binding is not in use");
+    }
+
+    @AfterEach
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    public void testBound() {
+        Assertions.assertNull(ScopedContext.current());
+        ScopedContext.run(context, () -> {
+            final MDCScope scope = ScopedContext.current();
+            Assertions.assertNotNull(scope, "The scope should be bound to a scoped value");
+            Assertions.assertSame(context, MDC.copyObject(), "Reading the MDC should not copy the bound map");
+            Assertions.assertEquals("1", MDC.get("request"));
+        });
+        Assertions.assertNull(ScopedContext.current());
+        Assertions.assertTrue(MDC.isEmpty(), "The MDC of the thread should not have been changed");
+    }
+
+    @Test
+    public void testChanges() throws Exception {
+        final AtomicReference<MDCScope> bound = new AtomicReference<>();
+        ScopedContext.run(context, () -> {
+            final MDCScope scope = ScopedContext.current();
+            bound.set(scope);
+            MDC.put("inner", "value");
+            Assertions.assertEquals("value", MDC.get("inner"));
+
+            // Another thread reading the scope sees the bound map rather than the changes of this thread
+            final AtomicReference<MDCMap> other = new AtomicReference<>();
+            final Thread thread = new Thread(() -> other.set(scope.get()));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            Assertions.assertSame(context, other.get());
+        });
+        Assertions.assertSame(context, bound.get().get(), "The changes should be discarded when the scope ends");
+        Assertions.assertNull(MDC.get("inner"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.ExtLogRecord.FormatStyle;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Slf4jLogRecordTestCase {
+
+    @Test
+    public void testDeferredFormat() {
+        final AtomicInteger count = new AtomicInteger();
+        final Object arg = new Object() {
+            @Override
+            public String toString() {
+                count.incrementAndGet();
+                return "value";
+            }
+        };
+        final ExtLogRecord record = new Slf4jLogRecord(Level.INFO, "Test {} message", Slf4jLogger.class.getName(),
+                new Object[] { arg }, false);
+        Assertions.assertEquals(0, count.get(), "The message should not have been formatted");
+        Assertions.assertEquals("Test {} message", record.getMessage());
+        Assertions.assertEquals(FormatStyle.NO_FORMAT, record.getFormatStyle());
+        Assertions.assertEquals("Test value message", record.getFormattedMessage());
+        Assertions.assertEquals("Test value message", record.getFormattedMessage());
+        Assertions.assertEquals(1, count.get(), "The message should have been formatted exactly once");
+    }
+
+    @Test
+    public void testTrailingThrowable() {
+        final RuntimeException e = new RuntimeException("Test exception");
+        final ExtLogRecord record = new Slf4jLogRecord(Level.INFO, "Test {} {}", Slf4jLogger.class.getName(),
+                new Object[] { "value", e }, true);
+        Assertions.assertEquals("Test value {}", record.getFormattedMessage());
+    }
+
+    @Test
+    public void testSetMessage() {
+        final ExtLogRecord record = new Slf4jLogRecord(Level.INFO, "Test {}", Slf4jLogger.class.getName(),
+                new Object[] { "value" }, false);
+        record.setMessage("Replaced", FormatStyle.NO_FORMAT);
+        Assertions.assertEquals("Replaced", record.getFormattedMessage());
+    }
+
+    @Test
+    public void testWriteReplace() throws Exception {
+        final Slf4jLogRecord record = new Slf4jLogRecord(Level.INFO, "Test {}", Slf4jLogger.class.getName(),
+                new Object[] { "value" }, false);
+        final ExtLogRecord result = (ExtLogRecord) record.writeReplace();
+        Assertions.assertSame(ExtLogRecord.class, result.getClass());
+        Assertions.assertEquals("Test value", result.getMessage());
+        Assertions.assertEquals("Test value", result.getFormattedMessage());
+    }
+}
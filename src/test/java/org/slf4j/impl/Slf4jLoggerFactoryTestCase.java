@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.LogContextSelector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+public class Slf4jLoggerFactoryTestCase {
+    private static final LogContextSelector DEFAULT_SELECTOR = LogContext.getLogContextSelector();
+
+    @AfterEach
+    public void resetSelector() {
+        LogContext.setLogContextSelector(DEFAULT_SELECTOR);
+    }
+
+    @Test
+    public void testCachedLogger() throws Exception {
+        try (LogContext logContext = LogContext.create()) {
+            LogContext.setLogContextSelector(() -> logContext);
+            final Slf4jLoggerFactory factory = new Slf4jLoggerFactory();
+            final Logger logger = factory.getLogger(Slf4jLoggerFactoryTestCase.class.getName());
+            Assertions.assertSame(logger, factory.getLogger(Slf4jLoggerFactoryTestCase.class.getName()));
+            Assertions.assertSame(logger, factory.getLogger(Slf4jLoggerFactoryTestCase.class));
+            Assertions.assertSame(logger, factory.getLogger(Slf4jLoggerFactoryTestCase.class));
+            // A new factory must return the same logger
+            Assertions.assertSame(logger, new Slf4jLoggerFactory().getLogger(Slf4jLoggerFactoryTestCase.class.getName()));
+            Assertions.assertSame(logContext, ((AbstractSlf4jLogger) logger).getLogContext());
+        }
+    }
+
+    @Test
+    public void testSelectorChange() throws Exception {
+        try (LogContext first = LogContext.create(); LogContext second = LogContext.create()) {
+            final Slf4jLoggerFactory factory = new Slf4jLoggerFactory();
+            LogContext.setLogContextSelector(() -> first);
+            final Logger firstByName = factory.getLogger("org.jboss.logmanager.slf4j.test");
+            final Logger firstByClass = factory.getLogger(Slf4jLoggerFactoryTestCase.class);
+            Assertions.assertSame(first, ((AbstractSlf4jLogger) firstByName).getLogContext());
+            Assertions.assertSame(first, ((AbstractSlf4jLogger) firstByClass).getLogContext());
+
+            LogContext.setLogContextSelector(() -> second);
+            final Logger secondByName = factory.getLogger("org.jboss.logmanager.slf4j.test");
+            final Logger secondByClass = factory.getLogger(Slf4jLoggerFactoryTestCase.class);
+            Assertions.assertNotSame(firstByName, secondByName);
+            Assertions.assertNotSame(firstByClass, secondByClass);
+            Assertions.assertSame(second, ((AbstractSlf4jLogger) secondByName).getLogContext());
+            Assertions.assertSame(second, ((AbstractSlf4jLogger) secondByClass).getLogContext());
+
+            LogContext.setLogContextSelector(() -> first);
+            Assertions.assertSame(firstByName, factory.getLogger("org.jboss.logmanager.slf4j.test"));
+            Assertions.assertSame(firstByClass, factory.getLogger(Slf4jLoggerFactoryTestCase.class));
+        }
+    }
+
+    @Test
+    public void testConcurrentLookup() throws Exception {
+        final int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        final int names = 64;
+        try (LogContext logContext = LogContext.create()) {
+            LogContext.setLogContextSelector(() -> logContext);
+            final Slf4jLoggerFactory factory = new Slf4jLoggerFactory();
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<Logger[]>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    results.add(executor.submit(() -> {
+                        final Logger[] loggers = new Logger[names];
+                        start.await();
+                        for (int i = 0; i < 1000; i++) {
+                            for (int n = 0; n < names; n++) {
+                                final Logger logger = factory.getLogger("org.jboss.logmanager.slf4j.concurrent" + n);
+                                if (loggers[n] == null) {
+                                    loggers[n] = logger;
+                                } else if (loggers[n] != logger) {
+                                    throw new AssertionError("Different logger returned for " + logger.getName());
+                                }
+                            }
+                        }
+                        return loggers;
+                    }));
+                }
+                start.countDown();
+                final Logger[] expected = results.get(0).get();
+                for (Future<Logger[]> result : results) {
+                    Assertions.assertArrayEquals(expected, result.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        final int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        final int names = 10_000;
+        try (LogContext logContext = LogContext.create()) {
+            LogContext.setLogContextSelector(() -> logContext);
+            final Slf4jLoggerFactory factory = new Slf4jLoggerFactory();
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final CyclicBarrier start = new CyclicBarrier(threads);
+                final List<Future<Logger[]>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    final int offset = t % 2;
+                    results.add(executor.submit(() -> {
+                        final Logger[] loggers = new Logger[names + 1];
+                        start.await();
+                        // Each name is requested by all the threads at about the same time, half of them in reverse
+                        for (int i = 0; i < names; i++) {
+                            final int n = offset == 0 ? i : names - 1 - i;
+                            loggers[n] = factory.getLogger("org.jboss.logmanager.slf4j.created" + n);
+                        }
+                        loggers[names] = factory.getLogger(Slf4jLoggerFactoryTestCase.class);
+                        return loggers;
+                    }));
+                }
+                final Logger[] expected = results.get(0).get();
+                for (Future<Logger[]> result : results) {
+                    final Logger[] loggers = result.get();
+                    for (int n = 0; n <= names; n++) {
+                        Assertions.assertSame(expected[n], loggers[n], "Different logger returned for " + n);
+                    }
+                }
+                for (int n = 0; n < names; n++) {
+                    Assertions.assertSame(expected[n], factory.getLogger("org.jboss.logmanager.slf4j.created" + n));
+                }
+                Assertions.assertSame(expected[names], factory.getLogger(Slf4jLoggerFactoryTestCase.class.getName()));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
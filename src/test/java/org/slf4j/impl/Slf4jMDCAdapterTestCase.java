@@ -0,0 +1,160 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.NDC;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Slf4jMDCAdapterTestCase {
+    private final Slf4jMDCAdapter adapter = new Slf4jMDCAdapter();
+
+    @AfterEach
+    public void cleanup() {
+        MDC.clear();
+        NDC.clear();
+    }
+
+    @Test
+    public void testPushPop() {
+        adapter.pushByKey("key", "one");
+        adapter.pushByKey("key", "two");
+        Assertions.assertEquals("[two, one]", MDC.get("key[]"));
+        Assertions.assertEquals(List.of("two", "one"), List.copyOf(adapter.getCopyOfDequeByKey("key")));
+
+        Assertions.assertEquals("two", adapter.popByKey("key"));
+        Assertions.assertEquals("[one]", adapter.get("key[]"));
+        Assertions.assertEquals("one", adapter.popByKey("key"));
+        Assertions.assertNull(MDC.getObject("key[]"), "The key should be removed once the deque is empty");
+        Assertions.assertEquals(Map.of(), MDC.copyObject(), "No entry should remain once the deque is empty");
+        Assertions.assertNull(adapter.popByKey("key"));
+        Assertions.assertNull(adapter.getCopyOfDequeByKey("key"));
+    }
+
+    @Test
+    public void testCopyIsDetached() {
+        adapter.pushByKey("key", "one");
+        final Deque<String> copy = adapter.getCopyOfDequeByKey("key");
+        copy.push("two");
+        adapter.pushByKey("key", "three");
+        Assertions.assertEquals(List.of("two", "one"), List.copyOf(copy));
+        Assertions.assertEquals(List.of("three", "one"), List.copyOf(adapter.getCopyOfDequeByKey("key")));
+    }
+
+    @Test
+    public void testPlainValue() {
+        adapter.put("key", "value");
+        Assertions.assertNull(adapter.popByKey("key"));
+        Assertions.assertNull(adapter.getCopyOfDequeByKey("key"));
+        adapter.clearDequeByKey("key");
+        Assertions.assertEquals("value", adapter.get("key"), "A plain value should not be removed");
+
+        adapter.pushByKey("key", "one");
+        Assertions.assertEquals(List.of("one"), List.copyOf(adapter.getCopyOfDequeByKey("key")));
+        Assertions.assertEquals("value", adapter.get("key"), "A deque should not replace a plain value");
+        adapter.clearDequeByKey("key");
+        Assertions.assertNull(adapter.getCopyOfDequeByKey("key"));
+        Assertions.assertEquals("value", adapter.get("key"));
+    }
+
+    @Test
+    public void testNullKey() {
+        adapter.pushByKey(null, "one");
+        adapter.pushByKey(null, "two");
+        Assertions.assertEquals("one.two", NDC.get());
+        Assertions.assertEquals(List.of("two", "one"), List.copyOf(adapter.getCopyOfDequeByKey(null)));
+        Assertions.assertEquals("two", adapter.popByKey(null));
+        adapter.clearDequeByKey(null);
+        Assertions.assertEquals(0, NDC.getDepth());
+        Assertions.assertNull(adapter.popByKey(null));
+        Assertions.assertNull(adapter.getCopyOfDequeByKey(null));
+    }
+
+    @Test
+    public void testSameKey() {
+        adapter.pushByKey("key", "one");
+        adapter.put("key", "value");
+        Assertions.assertEquals("value", adapter.get("key"));
+        Assertions.assertEquals(List.of("one"), List.copyOf(adapter.getCopyOfDequeByKey("key")),
+                "A plain value should not replace a deque");
+        adapter.remove("key");
+        Assertions.assertEquals(List.of("one"), List.copyOf(adapter.getCopyOfDequeByKey("key")));
+    }
+
+    @Test
+    public void testContextMap() {
+        adapter.put("key", "value");
+        adapter.pushByKey("deque", "one");
+        adapter.pushByKey("deque", "two");
+        final Map<String, String> contextMap = adapter.getCopyOfContextMap();
+        Assertions.assertEquals(Map.of("key", "value"), contextMap, "The context map should not contain the deques");
+        Assertions.assertEquals(Set.of("key"), adapter.getKeys());
+
+        adapter.setContextMap(Map.of("other", "value"));
+        Assertions.assertNull(adapter.get("key"));
+        Assertions.assertEquals("value", adapter.get("other"));
+        Assertions.assertEquals(List.of("two", "one"), List.copyOf(adapter.getCopyOfDequeByKey("deque")),
+                "Replacing the context map should keep the deques");
+
+        adapter.setContextMap(Map.of("deque", "value"));
+        Assertions.assertEquals("value", adapter.get("deque"));
+        Assertions.assertNull(adapter.get("other"));
+        Assertions.assertEquals(List.of("two", "one"), List.copyOf(adapter.getCopyOfDequeByKey("deque")));
+
+        adapter.clearDequeByKey("deque");
+        Assertions.assertEquals(Map.of("deque", "value"), MDC.copy(), "No entry should remain once the deques are cleared");
+    }
+
+    @Test
+    public void testRecordSnapshot() throws Exception {
+        final LogContext logContext = LogContext.create();
+        try (QueueHandler handler = new QueueHandler()) {
+            final org.jboss.logmanager.Logger lmLogger = logContext.getLogger(Slf4jMDCAdapterTestCase.class.getName());
+            lmLogger.addHandler(handler);
+            final Slf4jLogger logger = new Slf4jLogger(lmLogger);
+
+            adapter.pushByKey("request", "outer");
+            adapter.pushByKey("request", "inner");
+            logger.info("Test message");
+
+            final ExtLogRecord record = handler.messages.poll();
+            Assertions.assertNotNull(record);
+            record.copyMdc();
+            Assertions.assertEquals("[inner, outer]", record.getMdc("request[]"));
+            Assertions.assertEquals("[inner, outer]", new PatternFormatter("%X{request[]}").format(record));
+            adapter.popByKey("request");
+            adapter.pushByKey("request", "other");
+            Assertions.assertEquals("[inner, outer]", record.getMdc("request[]"),
+                    "The record should not see changes made after it was created");
+        } finally {
+            logContext.close();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.helpers.BasicMarkerFactory;
+
+public class Slf4jMarkerFactoryTestCase {
+
+    @Test
+    public void testGetMarker() {
+        final Slf4jMarkerFactory factory = new Slf4jMarkerFactory();
+        final Marker marker = factory.getMarker("test");
+        Assertions.assertSame(marker, factory.getMarker("test"));
+        Assertions.assertTrue(factory.exists("test"));
+        Assertions.assertTrue(factory.detachMarker("test"));
+        Assertions.assertFalse(factory.exists("test"));
+        Assertions.assertNotSame(marker, factory.getMarker("test"));
+        Assertions.assertEquals(marker, factory.getDetachedMarker("test"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factory.getMarker(null));
+    }
+
+    @Test
+    public void testTransitiveContains() {
+        final Slf4jMarkerFactory factory = new Slf4jMarkerFactory();
+        final Marker parent = factory.getMarker("parent");
+        final Marker child = factory.getMarker("child");
+        final Marker grandchild = factory.getMarker("grandchild");
+        parent.add(child);
+        Assertions.assertTrue(parent.contains(child));
+        Assertions.assertFalse(parent.contains("grandchild"));
+
+        // Adding to the child must be visible from the parent
+        child.add(grandchild);
+        Assertions.assertTrue(parent.contains(grandchild));
+        Assertions.assertTrue(parent.contains("grandchild"));
+        Assertions.assertTrue(parent.contains(parent));
+        Assertions.assertFalse(grandchild.contains(parent));
+        Assertions.assertFalse(parent.contains("unknown"));
+
+        Assertions.assertTrue(child.remove(grandchild));
+        Assertions.assertFalse(parent.contains(grandchild));
+        Assertions.assertFalse(child.remove(grandchild));
+        Assertions.assertTrue(parent.contains(child));
+        Assertions.assertEquals("parent [ child ]", parent.toString());
+    }
+
+    @Test
+    public void testCycle() {
+        final Slf4jMarkerFactory factory = new Slf4jMarkerFactory();
+        final Marker first = factory.getMarker("first");
+        final Marker second = factory.getMarker("second");
+        first.add(second);
+        second.add(first);
+        first.add(second);
+        Assertions.assertFalse(second.hasReferences());
+        Assertions.assertEquals(1, count(first));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.add(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.contains((Marker) null));
+    }
+
+    @Test
+    public void testForeignMarker() {
+        final Marker marker = new Slf4jMarkerFactory().getMarker("test");
+        final Marker foreign = new BasicMarkerFactory().getDetachedMarker("foreign");
+        marker.add(foreign);
+        Assertions.assertTrue(marker.contains("foreign"));
+
+        // Changes to a foreign marker are not tracked, so they must be found by walking the references
+        foreign.add(new BasicMarkerFactory().getDetachedMarker("foreignChild"));
+        Assertions.assertTrue(marker.contains("foreignChild"));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final Slf4jMarkerFactory factory = new Slf4jMarkerFactory();
+        final Marker parent = factory.getMarker("serialParent");
+        parent.add(factory.getMarker("serialChild"));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(parent);
+        }
+        final Marker result;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            result = (Marker) ois.readObject();
+        }
+        Assertions.assertEquals(parent, result);
+        Assertions.assertTrue(result.contains("serialChild"));
+    }
+
+    @Test
+    public void testIdentifiers() {
+        final Slf4jMarkerFactory factory = new Slf4jMarkerFactory();
+        final Marker parent = factory.getMarker("idParent");
+        final int count = Slf4jMarker.idCount();
+        // Markers which are never referenced do not take an identifier
+        for (int i = 0; i < 10_000; i++) {
+            final Marker marker = i % 2 == 0 ? factory.getMarker("dynamic" + i) : factory.getDetachedMarker("dynamic" + i);
+            Assertions.assertTrue(marker.contains("dynamic" + i));
+            Assertions.assertFalse(parent.contains(marker));
+            factory.detachMarker("dynamic" + i);
+        }
+        Assertions.assertEquals(count, Slf4jMarker.idCount());
+
+        parent.add(factory.getMarker("idChild"));
+        Assertions.assertEquals(count + 1, Slf4jMarker.idCount());
+        Assertions.assertTrue(parent.contains(factory.getDetachedMarker("idChild")));
+    }
+
+    @Test
+    public void testIdentifierLimit() {
+        final Slf4jMarkerFactory factory = new Slf4jMarkerFactory();
+        final Marker parent = factory.getMarker("limitParent");
+        final Marker child = factory.getMarker("limitChild");
+        parent.add(child);
+        for (int i = Slf4jMarker.idCount(); i <= Slf4jMarker.MAX_IDS; i++) {
+            child.add(factory.getMarker("limit" + i));
+        }
+        Assertions.assertEquals(Slf4jMarker.MAX_IDS, Slf4jMarker.idCount());
+        // Markers without an identifier are found by walking the references
+        final Marker last = factory.getMarker("limit" + Slf4jMarker.MAX_IDS);
+        Assertions.assertTrue(parent.contains(last));
+        Assertions.assertTrue(parent.contains("limit" + Slf4jMarker.MAX_IDS));
+        Assertions.assertTrue(child.remove(last));
+        Assertions.assertFalse(parent.contains(last));
+    }
+
+    private static int count(final Marker marker) {
+        int count = 0;
+        for (Marker ignored : (Iterable<Marker>) marker::iterator) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.ExtLogRecord.FormatStyle;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.jboss.logmanager.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ThrowableDeduplicatorTestCase {
+    private static final long HOUR = 3_600_000L;
+
+    private LogContext logContext;
+    private QueueHandler handler;
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        logContext = LogContext.create();
+        handler = new QueueHandler();
+        logger = logContext.getLogger(ThrowableDeduplicatorTestCase.class.getName());
+        logger.addHandler(handler);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        handler.close();
+        logContext.close();
+    }
+
+    @Test
+    public void testRepeats() {
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(HOUR, 16);
+        final RuntimeException[] failures = failures(3);
+        final ExtLogRecord first = record();
+        final RuntimeException e = failures[0];
+        Assertions.assertSame(e, deduplicator.deduplicate(logger, first, e));
+        final String id = first.getMdc(ThrowableDeduplicator.MDC_KEY);
+        Assertions.assertNotNull(id);
+
+        for (int i = 2; i <= 3; i++) {
+            final ExtLogRecord repeat = record();
+            final RuntimeException next = failures[i - 1];
+            final Throwable result = deduplicator.deduplicate(logger, repeat, next);
+            Assertions.assertInstanceOf(RepeatedThrowable.class, result);
+            Assertions.assertEquals(0, result.getStackTrace().length);
+            Assertions.assertEquals(next + " (same as #" + id + ", " + (i - 1) + (i == 2 ? " repeat)" : " repeats)"),
+                    result.toString());
+            Assertions.assertEquals(id, repeat.getMdc(ThrowableDeduplicator.MDC_KEY));
+        }
+
+        // A different type is a different exception
+        final ExtLogRecord other = record();
+        final IllegalStateException e2 = new IllegalStateException("Failed 1");
+        Assertions.assertSame(e2, deduplicator.deduplicate(logger, other, e2));
+        Assertions.assertNotEquals(id, other.getMdc(ThrowableDeduplicator.MDC_KEY));
+        Assertions.assertNull(handler.messages.poll(), "No summary should have been logged");
+    }
+
+    @Test
+    public void testSummary() throws Exception {
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(1L, 16);
+        final RuntimeException[] failures = failures(3);
+        deduplicator.deduplicate(logger, record(), failures[0]);
+        deduplicator.deduplicate(logger, record(), failures[1]);
+        Thread.sleep(10L);
+        final RuntimeException e = failures[2];
+        Assertions.assertSame(e, deduplicator.deduplicate(logger, record(), e),
+                "The first exception of a new window should be logged with its stack trace");
+
+        final ExtLogRecord summary = handler.messages.poll();
+        Assertions.assertNotNull(summary);
+        Assertions.assertEquals(Level.ERROR, summary.getLevel());
+        Assertions.assertTrue(summary.getFormattedMessage().startsWith("Exception #"), summary.getFormattedMessage());
+        Assertions.assertTrue(summary.getFormattedMessage().contains("was repeated 1 times"),
+                summary.getFormattedMessage());
+        Assertions.assertNotNull(summary.getMdc(ThrowableDeduplicator.MDC_KEY));
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(200L, 16);
+        final RuntimeException[] failures = failures(3);
+        deduplicator.deduplicate(logger, record(), failures[0]);
+        deduplicator.deduplicate(logger, record(), failures[1]);
+        deduplicator.flush(System.nanoTime());
+        Assertions.assertNull(handler.messages.poll(), "The window has not ended");
+        Thread.sleep(250L);
+        deduplicator.flush(System.nanoTime());
+
+        final ExtLogRecord summary = handler.messages.poll();
+        Assertions.assertNotNull(summary, "The summary should be logged without waiting for the exception to recur");
+        Assertions.assertEquals(Level.ERROR, summary.getLevel());
+        Assertions.assertTrue(summary.getFormattedMessage().contains("was repeated 1 times"),
+                summary.getFormattedMessage());
+        deduplicator.flush(System.nanoTime());
+        Assertions.assertNull(handler.messages.poll(), "The summary should only be logged once");
+
+        final RuntimeException e = failures[2];
+        Assertions.assertSame(e, deduplicator.deduplicate(logger, record(), e),
+                "The first exception after a flushed window should be logged with its stack trace");
+        Assertions.assertNull(handler.messages.poll(), "The flushed window should not be summarized again");
+    }
+
+    @Test
+    public void testMessageShape() {
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(HOUR, 16);
+        final String[] messages = {
+                "Failed user42 at 0x7ffe3a2c with request 3f2a9c1e-8b4d-4e6a-9f0b-2c7d5e1a6b3f hash deadbeef01",
+                "Failed user7 at 0x1b with request a0b1c2d3-e4f5-4a6b-8c7d-9e0f1a2b3c4d hash 9c3e7a55f2" };
+        final RuntimeException[] failures = new RuntimeException[messages.length];
+        for (int i = 0; i < messages.length; i++) {
+            // Created on the same line so the stack frames are the same
+            failures[i] = new RuntimeException(messages[i]);
+        }
+        Assertions.assertSame(failures[0], deduplicator.deduplicate(logger, record(), failures[0]));
+        Assertions.assertInstanceOf(RepeatedThrowable.class, deduplicator.deduplicate(logger, record(), failures[1]),
+                "Numbers, hexadecimal values and UUIDs should not be part of the fingerprint");
+
+        // Words which only contain hexadecimal letters are kept
+        final RuntimeException[] words = new RuntimeException[2];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = new RuntimeException(i == 0 ? "Failed to add" : "Failed to bed");
+        }
+        Assertions.assertSame(words[0], deduplicator.deduplicate(logger, record(), words[0]));
+        Assertions.assertSame(words[1], deduplicator.deduplicate(logger, record(), words[1]));
+    }
+
+    @Test
+    public void testEviction() {
+        final ThrowableDeduplicator deduplicator = new ThrowableDeduplicator(HOUR, 2);
+        final IllegalStateException first = new IllegalStateException();
+        final IllegalArgumentException second = new IllegalArgumentException();
+        deduplicator.deduplicate(logger, record(), first);
+        deduplicator.deduplicate(logger, record(), second);
+        // Seeing the first again makes the second the least recently seen
+        Assertions.assertInstanceOf(RepeatedThrowable.class, deduplicator.deduplicate(logger, record(), first));
+        deduplicator.deduplicate(logger, record(), new UnsupportedOperationException());
+        Assertions.assertEquals(2, deduplicator.size());
+
+        Assertions.assertInstanceOf(RepeatedThrowable.class, deduplicator.deduplicate(logger, record(), first));
+        Assertions.assertSame(second, deduplicator.deduplicate(logger, record(), second),
+                "The least recently seen exception should have been evicted");
+    }
+
+    private static ExtLogRecord record() {
+        return new ExtLogRecord(Level.ERROR, "Test message", FormatStyle.NO_FORMAT,
+                ThrowableDeduplicatorTestCase.class.getName());
+    }
+
+    private static RuntimeException[] failures(final int count) {
+        final RuntimeException[] result = new RuntimeException[count];
+        for (int i = 0; i < count; i++) {
+            // Created on the same line so the stack frames are the same
+            result[i] = new RuntimeException("Failed for id " + (i + 1));
+        }
+        return result;
+    }
+}
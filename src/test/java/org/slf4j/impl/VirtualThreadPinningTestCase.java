@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.slf4j.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.LogContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Verifies that logging on virtual threads does not pin the carrier threads in the code of this binding. These tests
+ * require Java 21 or later and are skipped on earlier versions.
+ * <p>
+ * The virtual threads are all started before they log, so they contend for the handler lock. A virtual thread which
+ * waits for the lock while a frame of the binding holds a monitor pins its carrier and is reported by the
+ * {@code jdk.VirtualThreadPinned} event.
+ * </p>
+ */
+public class VirtualThreadPinningTestCase {
+    private static final String LOGGER_NAME = VirtualThreadPinningTestCase.class.getName();
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+    private static final String CLASS_INIT_LOCK = int[].class.getName();
+    private static final int TASKS = 100_000;
+    private static final int LOGGERS = 1_000;
+    private static final String[] BINDING_PACKAGES = { "org.slf4j.impl.", "org.jboss.logmanager.slf4j." };
+
+    private final Slf4jMDCAdapter mdc = new Slf4jMDCAdapter();
+    private LogContext logContext;
+    private ContendedHandler handler;
+
+    @BeforeEach
+    public void setup() {
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21 or later");
+        logContext = LogContext.create();
+        handler = new ContendedHandler();
+        final org.jboss.logmanager.Logger lmLogger = logContext.getLogger(LOGGER_NAME);
+        lmLogger.addHandler(handler);
+        lmLogger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    public void cleanup() throws Exception {
+        if (logContext != null) {
+            logContext.close();
+        }
+    }
+
+    @Test
+    public void testNoPinning() throws Exception {
+        // Initialize the classes on the logging path, which is done once and is not what is under test
+        log(-1);
+        handler.published.reset();
+
+        final Path file = Files.createTempFile("slf4j-pinning", ".jfr");
+        final long virtualNanos;
+        final List<RecordedEvent> events;
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+                recording.enable(MONITOR_ENTER_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+                recording.start();
+                virtualNanos = run(newVirtualThreadPerTaskExecutor());
+                recording.stop();
+                recording.dump(file);
+            }
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        Assertions.assertEquals(TASKS, handler.published.sum());
+
+        final List<String> attributed = new ArrayList<>();
+        int pinned = 0;
+        for (RecordedEvent event : events) {
+            final String name = event.getEventType().getName();
+            if (PINNED_EVENT.equals(name)) {
+                pinned++;
+                // Any frame of the binding on the stack of a pinned virtual thread could be holding the monitor
+                if (findBindingFrame(event.getStackTrace(), false) != null) {
+                    attributed.add(describe(event));
+                }
+            } else if (MONITOR_ENTER_EVENT.equals(name)) {
+                // The top frame is the method which contended for the monitor. Waiting for another thread to
+                // initialize a class is reported on the int[] lock of the class and is not a monitor of the binding.
+                if (!CLASS_INIT_LOCK.equals(event.getClass("monitorClass").getName())
+                        && findBindingFrame(event.getStackTrace(), true) != null) {
+                    attributed.add(describe(event));
+                }
+            }
+        }
+        Assertions.assertTrue(attributed.isEmpty(),
+                () -> attributed.size() + " events were attributed to the binding:\n" + String.join("\n", attributed));
+
+        handler.published.reset();
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final long platformNanos = run(Executors.newFixedThreadPool(processors * 2));
+        Assertions.assertEquals(TASKS, handler.published.sum());
+        System.out.printf(
+                "Logged %d events on virtual threads in %d ms (%.0f events/s) and on %d platform threads in %d ms (%.0f events/s), %d pinned events outside the binding%n",
+                TASKS, TimeUnit.NANOSECONDS.toMillis(virtualNanos), rate(virtualNanos), processors * 2,
+                TimeUnit.NANOSECONDS.toMillis(platformNanos), rate(platformNanos), pinned);
+    }
+
+    /**
+     * Runs the logging tasks once they have all been submitted to the executor.
+     *
+     * @return the time taken for the tasks to complete once they were released
+     */
+    private long run(final ExecutorService executor) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final long started;
+        try {
+            for (int i = 0; i < TASKS; i++) {
+                final int task = i;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    log(task);
+                });
+            }
+            started = System.nanoTime();
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertTrue(executor.awaitTermination(2L, TimeUnit.MINUTES), "The logging tasks did not complete");
+        return System.nanoTime() - started;
+    }
+
+    private void log(final int task) {
+        // The loggers are created by the first tasks, so the creation path runs concurrently as well
+        final Logger logger = Slf4jLoggerFactory.getLogger(logContext, LOGGER_NAME + ".logger" + task % LOGGERS);
+        mdc.put("task", Integer.toString(task));
+        try {
+            logger.info("Task {} of {}", task, TASKS);
+        } finally {
+            mdc.remove("task");
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        // Invoked reflectively as the tests are compiled for Java 17
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    private static RecordedFrame findBindingFrame(final RecordedStackTrace stackTrace, final boolean topOnly) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            final String type = frame.getMethod().getType().getName();
+            // The test and its handler are in the package of the binding
+            if (!type.startsWith(VirtualThreadPinningTestCase.class.getName())) {
+                for (String bindingPackage : BINDING_PACKAGES) {
+                    if (type.startsWith(bindingPackage)) {
+                        return frame;
+                    }
+                }
+            }
+            if (topOnly && frame.isJavaFrame()) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static String describe(final RecordedEvent event) {
+        final StringBuilder builder = new StringBuilder(event.getEventType().getName());
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            builder.append("\n\tat ").append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber());
+        }
+        return builder.toString();
+    }
+
+    private static double rate(final long nanos) {
+        return TASKS * (double) TimeUnit.SECONDS.toNanos(1L) / nanos;
+    }
+
+    /**
+     * A handler which takes its lock for each record, so threads publishing at the same time wait for each other.
+     */
+    private static final class ContendedHandler extends ExtHandler {
+        final LongAdder published = new LongAdder();
+
+        @Override
+        protected void doPublish(final ExtLogRecord record) {
+            lock.lock();
+            try {
+                record.getFormattedMessage();
+                record.getMdc("task");
+                published.increment();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}